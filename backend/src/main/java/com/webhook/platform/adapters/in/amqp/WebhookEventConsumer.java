@@ -6,6 +6,8 @@ import com.webhook.platform.infra.config.RabbitMQConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,8 +18,10 @@ public class WebhookEventConsumer {
   private final WebhookDeliveryService deliveryService;
 
   @RabbitListener(queues = RabbitMQConfig.QUEUE_NAME)
-  public void receiveMessage(OutboxEventEntity event) {
+  public void receiveMessage(
+      OutboxEventEntity event,
+      @Header(name = AmqpHeaders.REDELIVERED, required = false) Boolean redelivered) {
     log.info("Received event from RabbitMQ: {}", event.getId());
-    deliveryService.processEvent(event);
+    deliveryService.processEvent(event, Boolean.TRUE.equals(redelivered));
   }
 }
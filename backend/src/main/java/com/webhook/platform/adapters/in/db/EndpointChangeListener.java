@@ -0,0 +1,56 @@
+package com.webhook.platform.adapters.in.db;
+
+import com.webhook.platform.application.service.EndpointCache;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops a tenant from the {@link EndpointCache} when another node (or an out-of-band SQL change)
+ * commits a change to one of its endpoints. A trigger on webhook_endpoints (V11) sends the tenant
+ * id on channel endpoint_changed. Whatever was missed while disconnected is covered by clearing the
+ * whole cache on (re)connect.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+    name = "app.endpoints.cache.notify.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class EndpointChangeListener extends PostgresNotificationListener {
+
+  private final EndpointCache endpointCache;
+
+  public EndpointChangeListener(
+      DataSourceProperties dataSourceProperties,
+      EndpointCache endpointCache,
+      @Value("${app.endpoints.cache.notify.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+    super(dataSourceProperties, "endpoint_changed", "endpoint-change-listener", reconnectDelayMs);
+    this.endpointCache = endpointCache;
+  }
+
+  @Override
+  protected void onListening() {
+    endpointCache.invalidateAll();
+  }
+
+  @Override
+  protected void onNotifications(PGNotification[] notifications) {
+    for (PGNotification notification : notifications) {
+      invalidate(notification.getParameter());
+    }
+  }
+
+  private void invalidate(String tenantId) {
+    try {
+      endpointCache.invalidateTenant(UUID.fromString(tenantId));
+    } catch (IllegalArgumentException e) {
+      log.warn("Unexpected endpoint_changed payload '{}', clearing the cache", tenantId);
+      endpointCache.invalidateAll();
+    }
+  }
+}
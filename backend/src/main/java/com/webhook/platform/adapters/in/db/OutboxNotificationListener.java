@@ -0,0 +1,54 @@
+package com.webhook.platform.adapters.in.db;
+
+import com.webhook.platform.adapters.in.scheduler.OutboxDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wakes the {@link OutboxDispatcher} as soon as outbox rows are committed. A trigger on
+ * outbox_events (V8) sends a NOTIFY per INSERT statement; Postgres delivers it only on commit. The
+ * scheduled poll stays in place as a safety net for missed notifications.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+    name = "app.outbox.notify.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OutboxNotificationListener extends PostgresNotificationListener {
+
+  private final OutboxDispatcher dispatcher;
+
+  public OutboxNotificationListener(
+      DataSourceProperties dataSourceProperties,
+      OutboxDispatcher dispatcher,
+      @Value("${app.outbox.notify.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+    super(dataSourceProperties, "outbox_pending", "outbox-notify-listener", reconnectDelayMs);
+    this.dispatcher = dispatcher;
+  }
+
+  // Catch up on anything committed while we were not listening.
+  @Override
+  protected void onListening() {
+    dispatchUntilDrained();
+  }
+
+  @Override
+  protected void onNotifications(PGNotification[] notifications) {
+    dispatchUntilDrained();
+  }
+
+  private void dispatchUntilDrained() {
+    try {
+      while (isRunning() && dispatcher.processOutbox() > 0) {
+        // Keep going while there is work; notifications that arrived meanwhile are covered.
+      }
+    } catch (Exception e) {
+      log.error("Dispatch triggered by notification failed; poller will retry", e);
+    }
+  }
+}
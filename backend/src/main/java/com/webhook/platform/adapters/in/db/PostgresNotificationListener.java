@@ -0,0 +1,111 @@
+package com.webhook.platform.adapters.in.db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * LISTENs on one Postgres channel from a background thread and hands notifications to the subclass.
+ * The connection is re-established after a failure; since notifications sent while disconnected are
+ * lost, {@link #onListening} runs after every (re)connect to catch up.
+ */
+@Slf4j
+abstract class PostgresNotificationListener implements SmartLifecycle {
+
+  private final DataSourceProperties dataSourceProperties;
+  private final String channel;
+  private final String threadName;
+  private final long reconnectDelayMs;
+
+  private volatile boolean running;
+  private Thread thread;
+
+  PostgresNotificationListener(
+      DataSourceProperties dataSourceProperties,
+      String channel,
+      String threadName,
+      long reconnectDelayMs) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.channel = channel;
+    this.threadName = threadName;
+    this.reconnectDelayMs = reconnectDelayMs;
+  }
+
+  /** Called once LISTEN is in place, before any notification. */
+  protected abstract void onListening();
+
+  /** Called with the notifications received in one poll; never empty. */
+  protected abstract void onNotifications(PGNotification[] notifications);
+
+  @Override
+  public void start() {
+    running = true;
+    thread = new Thread(this::listenLoop, threadName);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listenLoop() {
+    while (running) {
+      // A dedicated connection outside the pool: LISTEN is session state and the connection is
+      // held for the lifetime of the application.
+      try (Connection connection =
+          DriverManager.getConnection(
+              dataSourceProperties.determineUrl(),
+              dataSourceProperties.determineUsername(),
+              dataSourceProperties.determinePassword())) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        log.info("Listening for notifications on channel {}", channel);
+
+        onListening();
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(1000);
+          if (notifications != null && notifications.length > 0) {
+            onNotifications(notifications);
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        log.warn(
+            "Listener on channel {} lost its connection, retrying in {} ms",
+            channel,
+            reconnectDelayMs,
+            e);
+        sleepBeforeReconnect();
+      }
+    }
+  }
+
+  private void sleepBeforeReconnect() {
+    try {
+      Thread.sleep(reconnectDelayMs);
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
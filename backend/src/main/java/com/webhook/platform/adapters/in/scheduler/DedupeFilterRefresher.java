@@ -0,0 +1,26 @@
+package com.webhook.platform.adapters.in.scheduler;
+
+import com.webhook.platform.application.service.DeliveredDedupeFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DedupeFilterRefresher {
+
+  private final DeliveredDedupeFilter dedupeFilter;
+
+  // The first run loads the filter; until then, and whenever runs keep failing, deliveries fall
+  // back to the dedupe table.
+  @Scheduled(fixedDelayString = "${app.delivery.dedupe-filter.refresh-interval-ms:2000}")
+  public void refresh() {
+    try {
+      dedupeFilter.refresh();
+    } catch (Exception e) {
+      log.error("Refreshing the delivered dedupe filter failed", e);
+    }
+  }
+}
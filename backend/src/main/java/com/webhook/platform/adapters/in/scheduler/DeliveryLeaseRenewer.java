@@ -0,0 +1,25 @@
+package com.webhook.platform.adapters.in.scheduler;
+
+import com.webhook.platform.application.service.EndpointConcurrencyLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeliveryLeaseRenewer {
+
+  private final EndpointConcurrencyLimiter concurrencyLimiter;
+
+  // Must run well within app.delivery.leases.ttl, or busy slots expire under running deliveries.
+  @Scheduled(fixedDelayString = "${app.delivery.leases.renew-interval-ms:10000}")
+  public void renew() {
+    try {
+      concurrencyLimiter.renewLeases();
+    } catch (Exception e) {
+      log.error("Renewing endpoint delivery leases failed", e);
+    }
+  }
+}
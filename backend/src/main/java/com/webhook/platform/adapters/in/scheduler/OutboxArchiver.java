@@ -0,0 +1,30 @@
+package com.webhook.platform.adapters.in.scheduler;
+
+import com.webhook.platform.application.service.OutboxArchivalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.outbox.archive.enabled", havingValue = "true")
+public class OutboxArchiver {
+
+  private final OutboxArchivalService archivalService;
+  private final OutboxDispatcher dispatcher;
+
+  @Scheduled(
+      initialDelayString = "${app.outbox.archive.interval-ms:3600000}",
+      fixedDelayString = "${app.outbox.archive.interval-ms:3600000}")
+  public void archive() {
+    try {
+      // The dispatcher's periodically refreshed count; no COUNT query per chunk.
+      archivalService.archiveFinishedEvents(dispatcher::backlog);
+    } catch (Exception e) {
+      log.error("Outbox archival failed", e);
+    }
+  }
+}
@@ -1,17 +1,43 @@
 package com.webhook.platform.adapters.in.scheduler;
 
 import com.webhook.platform.application.repository.OutboxEventRepository;
+import com.webhook.platform.application.service.OutboxShardCoordinator;
 import com.webhook.platform.domain.entity.OutboxEventEntity;
 import com.webhook.platform.domain.model.EventStatus;
+import com.webhook.platform.domain.policy.AdaptiveBatchPolicy;
 import com.webhook.platform.infra.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @RequiredArgsConstructor
@@ -20,36 +46,268 @@ public class OutboxDispatcher {
 
   private final OutboxEventRepository repository;
   private final RabbitTemplate rabbitTemplate;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate transactionTemplate;
+  private final OutboxShardCoordinator shardCoordinator;
 
-  private static final int BATCH_SIZE = 50;
+  @Value("${app.outbox.dispatch-lookback:14d}")
+  private Duration dispatchLookback;
 
-  @Scheduled(fixedDelay = 1000)
-  @Transactional
+  @Value("${app.outbox.dispatch.confirm-timeout:5s}")
+  private Duration confirmTimeout;
+
+  @Value("${app.outbox.dispatch.min-batch-size:50}")
+  private int minBatchSize;
+
+  @Value("${app.outbox.dispatch.max-batch-size:1000}")
+  private int maxBatchSize;
+
+  @Value("${app.outbox.dispatch.min-delay-ms:50}")
+  private long minDelayMs;
+
+  @Value("${app.outbox.dispatch.max-delay-ms:1000}")
+  private long maxDelayMs;
+
+  // Upper bound on back-to-back batches per tick, so the shared scheduler thread is released.
+  @Value("${app.outbox.dispatch.max-drain-ms:1000}")
+  private long maxDrainMs;
+
+  // Parallel dispatch workers per node; each one polls a disjoint subset of the owned shards.
+  @Value("${app.outbox.shards.workers:4}")
+  private int workers;
+
+  private final AtomicLong backlog = new AtomicLong();
+  // Oldest PENDING event in a partition kept past retention; the scan reaches back to it.
+  private volatile LocalDateTime strandedSince;
+  private AdaptiveBatchPolicy batchPolicy;
+  private ExecutorService workerPool;
+  private Timer enqueueLatency;
+  private Counter loops;
+  private Counter nacked;
+  private Counter timedOut;
+
+  @PostConstruct
+  void init() {
+    batchPolicy = new AdaptiveBatchPolicy(minBatchSize, maxBatchSize, minDelayMs, maxDelayMs);
+    if (shardCoordinator.isEnabled() && workers > 1) {
+      AtomicInteger threads = new AtomicInteger();
+      workerPool =
+          Executors.newFixedThreadPool(
+              workers,
+              r -> {
+                Thread t = new Thread(r, "outbox-dispatch-" + threads.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+              });
+    }
+
+    enqueueLatency =
+        Timer.builder("webhook.outbox.enqueue.latency")
+            .description("Time from outbox insert to publish")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    loops = meterRegistry.counter("webhook.dispatcher.loops", "dispatcher", "outbox");
+    nacked = meterRegistry.counter("webhook.outbox.publish.unconfirmed", "reason", "nack");
+    timedOut = meterRegistry.counter("webhook.outbox.publish.unconfirmed", "reason", "timeout");
+    Gauge.builder("webhook.dispatcher.batch_size", batchPolicy, AdaptiveBatchPolicy::batchSize)
+        .tag("dispatcher", "outbox")
+        .register(meterRegistry);
+    Gauge.builder("webhook.dispatcher.delay_ms", batchPolicy, AdaptiveBatchPolicy::delayMs)
+        .tag("dispatcher", "outbox")
+        .register(meterRegistry);
+    Gauge.builder("webhook.dispatcher.backlog", backlog, AtomicLong::get)
+        .tag("dispatcher", "outbox")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (workerPool != null) {
+      workerPool.shutdown();
+    }
+  }
+
+  /** PENDING events within the dispatch window, as of the last {@link #refreshBacklog}. */
+  public long backlog() {
+    return backlog.get();
+  }
+
+  // A COUNT over the outbox is too expensive to run on every scrape, so the backlog gauge reports
+  // the result of the last refresh.
+  @Scheduled(fixedDelayString = "${app.dispatcher.backlog.refresh-interval-ms:30000}")
+  public void refreshBacklog() {
+    try {
+      backlog.set(repository.countByStatusAndCreatedAtAfter(EventStatus.PENDING, dispatchSince()));
+    } catch (Exception e) {
+      log.warn("Counting the outbox backlog failed", e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.shards.rebalance-interval-ms:5000}")
+  public void rebalanceShards() {
+    if (shardCoordinator.isEnabled()) {
+      shardCoordinator.rebalance();
+    }
+  }
+
+  // Ticks at the minimum delay; the policy decides whether this tick actually queries.
+  @Scheduled(fixedDelayString = "${app.outbox.dispatch.min-delay-ms:50}")
+  public void poll() {
+    if (!batchPolicy.isDue(System.currentTimeMillis())) {
+      return;
+    }
+    long drainUntil = System.currentTimeMillis() + maxDrainMs;
+    while (processOutbox() > 0 && batchPolicy.delayMs() == 0) {
+      if (System.currentTimeMillis() >= drainUntil) {
+        break;
+      }
+    }
+  }
+
+  // Also invoked by OutboxNotificationListener on commit; SKIP LOCKED keeps the two callers
+  // from claiming the same rows. Returns the number of events enqueued.
   @Observed(name = "webhook.dispatcher.process", contextualName = "dispatch-outbox")
-  public void processOutbox() {
+  public int processOutbox() {
+    int requested = batchPolicy.batchSize();
+    List<Set<Integer>> groups = shardGroups();
+
+    int count;
+    if (groups.size() == 1) {
+      count = dispatchInTransaction(requested, groups.get(0));
+    } else {
+      List<CompletableFuture<Integer>> results =
+          groups.stream()
+              .map(
+                  group ->
+                      CompletableFuture.supplyAsync(
+                          () -> dispatchInTransaction(requested, group), workerPool))
+              .toList();
+      CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+      count = results.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    loops.increment();
+    batchPolicy.record(count, requested * Math.max(1, groups.size()), System.currentTimeMillis());
+    return count;
+  }
+
+  // A single null group means "no shard filter"; an empty list means no shard is owned yet.
+  private List<Set<Integer>> shardGroups() {
+    if (!shardCoordinator.isEnabled()) {
+      return Collections.singletonList(null);
+    }
+    List<Integer> owned = new ArrayList<>(shardCoordinator.ownedShards());
+    int groupCount = Math.min(Math.max(1, workers), owned.size());
+    List<Set<Integer>> groups = new ArrayList<>(groupCount);
+    for (int i = 0; i < groupCount; i++) {
+      groups.add(new HashSet<>());
+    }
+    for (int i = 0; i < owned.size(); i++) {
+      groups.get(i % groupCount).add(owned.get(i));
+    }
+    return groups;
+  }
+
+  private int dispatchInTransaction(int batchSize, Set<Integer> shards) {
+    Integer dispatched = transactionTemplate.execute(status -> dispatchBatch(batchSize, shards));
+    return dispatched != null ? dispatched : 0;
+  }
+
+  /**
+   * Extends the scan past dispatch-lookback down to {@code since}, so PENDING events in partitions
+   * the maintainer keeps past retention are still sent. Null restores the plain lookback.
+   */
+  void reachBackTo(LocalDateTime since) {
+    strandedSince = since;
+  }
+
+  private LocalDateTime dispatchSince() {
+    LocalDateTime since = LocalDateTime.now().minus(dispatchLookback);
+    LocalDateTime stranded = strandedSince;
+    return stranded != null && stranded.isBefore(since) ? stranded : since;
+  }
+
+  private int dispatchBatch(int batchSize, Set<Integer> shards) {
+    LocalDateTime since = dispatchSince();
+    String pending = EventStatus.PENDING.name();
     List<OutboxEventEntity> events =
-        repository.findBatchByStatusForUpdateSkipLocked(EventStatus.PENDING.name(), BATCH_SIZE);
+        shards == null
+            ? repository.findBatchByStatusForUpdateSkipLocked(pending, since, batchSize)
+            : repository.findBatchByShardsForUpdateSkipLocked(pending, shards, since, batchSize);
 
     if (events.isEmpty()) {
-      return;
+      return 0;
     }
 
     log.info("Found {} pending events to process", events.size());
 
+    // Publish the whole batch first, then collect the broker confirms; waiting per message would
+    // cost one round trip each.
+    List<CorrelationData> confirms = new ArrayList<>(events.size());
     for (OutboxEventEntity event : events) {
+      CorrelationData correlation = new CorrelationData(event.getId().toString());
       try {
         rabbitTemplate.convertAndSend(
-            RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.ROUTING_KEY, event);
+            RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.ROUTING_KEY, event, correlation);
+      } catch (AmqpException e) {
+        // The broker is most likely unreachable; the rest of the batch stays PENDING.
+        log.error("Failed to publish event {}", event.getId(), e);
+        break;
+      }
+      confirms.add(correlation);
+    }
 
-        event.setStatus(EventStatus.ENQUEUED);
-        repository.save(event);
+    long deadline = System.nanoTime() + confirmTimeout.toNanos();
+    List<OutboxEventEntity> confirmed = new ArrayList<>(confirms.size());
+    for (int i = 0; i < confirms.size(); i++) {
+      if (awaitConfirm(confirms.get(i), deadline)) {
+        confirmed.add(events.get(i));
+      }
+    }
+
+    // Unconfirmed events are left PENDING and picked up again by a later batch.
+    if (confirmed.isEmpty()) {
+      return 0;
+    }
+    LocalDateTime publishedAt = LocalDateTime.now();
+    UUID[] ids = confirmed.stream().map(OutboxEventEntity::getId).toArray(UUID[]::new);
+    repository.markEnqueued(ids, since, publishedAt);
+    confirmed.forEach(
+        event -> enqueueLatency.record(Duration.between(event.getCreatedAt(), publishedAt)));
+    return confirmed.size();
+  }
 
-        log.debug("Event {} enqueued successfully", event.getId());
-      } catch (Exception e) {
-        // Transaction rollback ensures event remains PENDING for retry.
-        log.error("Failed to publish event {}. Transaction will rollback.", event.getId(), e);
-        throw e;
+  private boolean awaitConfirm(CorrelationData correlation, long deadlineNanos) {
+    try {
+      CorrelationData.Confirm confirm =
+          correlation
+              .getFuture()
+              .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+      if (!confirm.isAck()) {
+        log.warn("Broker nacked event {}: {}", correlation.getId(), confirm.getReason());
+        nacked.increment();
+        return false;
+      }
+      // Unroutable messages are acked after being returned, so an ack alone is not enough.
+      if (correlation.getReturned() != null) {
+        log.warn(
+            "Event {} was returned as unroutable: {}",
+            correlation.getId(),
+            correlation.getReturned().getReplyText());
+        nacked.increment();
+        return false;
       }
+      return true;
+    } catch (TimeoutException e) {
+      log.warn("No publisher confirm for event {} within {}", correlation.getId(), confirmTimeout);
+      timedOut.increment();
+      return false;
+    } catch (ExecutionException e) {
+      nacked.increment();
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
   }
 }
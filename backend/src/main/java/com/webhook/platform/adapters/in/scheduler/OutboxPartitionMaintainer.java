@@ -0,0 +1,119 @@
+package com.webhook.platform.adapters.in.scheduler;
+
+import com.webhook.platform.application.port.out.OutboxPartitionManager;
+import com.webhook.platform.application.port.out.OutboxPartitionManager.Partition;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+    name = "app.outbox.partitions.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OutboxPartitionMaintainer {
+
+  private final OutboxPartitionManager partitionManager;
+  private final OutboxDispatcher dispatcher;
+  private final MeterRegistry meterRegistry;
+  private final AtomicInteger stranded = new AtomicInteger();
+
+  @Value("${app.outbox.partitions.premake-days:7}")
+  private int premakeDays;
+
+  @Value("${app.outbox.partitions.retention:14d}")
+  private Duration retention;
+
+  @Value("${app.outbox.partitions.expired-action:drop}")
+  private String expiredAction;
+
+  @PostConstruct
+  void init() {
+    Gauge.builder("webhook.outbox.partitions.stranded", stranded, AtomicInteger::get)
+        .description("Partitions kept past retention because they still hold PENDING events")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(
+      initialDelay = 0,
+      fixedDelayString = "${app.outbox.partitions.maintenance-interval-ms:3600000}")
+  public void maintain() {
+    try {
+      List<Partition> partitions = partitionManager.listPartitions();
+      createFuturePartitions(partitions);
+      expireOldPartitions(partitions);
+    } catch (Exception e) {
+      log.error("Outbox partition maintenance failed", e);
+    }
+  }
+
+  private void createFuturePartitions(List<Partition> existing) {
+    // Partitions are created days ahead: once the DEFAULT partition holds rows for a day,
+    // that day's partition can no longer be created.
+    LocalDate today = LocalDate.now();
+    for (int i = 0; i <= premakeDays; i++) {
+      LocalDate day = today.plusDays(i);
+      if (existing.stream().noneMatch(p -> overlaps(p, day))) {
+        partitionManager.createDailyPartition(day);
+        log.info("Created outbox partition for {}", day);
+      }
+    }
+  }
+
+  private boolean overlaps(Partition partition, LocalDate day) {
+    LocalDateTime start = day.atStartOfDay();
+    LocalDateTime end = start.plusDays(1);
+    return (partition.from() == null || partition.from().isBefore(end))
+        && (partition.to() == null || partition.to().isAfter(start));
+  }
+
+  private void expireOldPartitions(List<Partition> partitions) {
+    LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+    int kept = 0;
+    LocalDateTime oldestPending = null;
+    for (Partition partition : partitions) {
+      if (partition.to() == null || partition.to().isAfter(cutoff)) {
+        continue;
+      }
+      // Events the dispatcher has not sent yet are kept, and it is told to scan back to them:
+      // its lookback alone would never reach them again.
+      Optional<LocalDateTime> pending = partitionManager.oldestPendingEvent(partition.name());
+      if (pending.isPresent()) {
+        log.warn(
+            "Outbox partition {} is past retention but still has PENDING events since {}; keeping"
+                + " it",
+            partition.name(),
+            pending.get());
+        kept++;
+        if (oldestPending == null || pending.get().isBefore(oldestPending)) {
+          oldestPending = pending.get();
+        }
+        continue;
+      }
+
+      if ("detach".equalsIgnoreCase(expiredAction)) {
+        partitionManager.detachPartition(partition.name());
+        log.info("Detached expired outbox partition {}", partition.name());
+      } else {
+        partitionManager.dropPartition(partition.name());
+        log.info("Dropped expired outbox partition {}", partition.name());
+      }
+    }
+    stranded.set(kept);
+    dispatcher.reachBackTo(oldestPending);
+  }
+}
@@ -3,15 +3,22 @@ package com.webhook.platform.adapters.in.scheduler;
 import com.webhook.platform.application.repository.DeliveryJobRepository;
 import com.webhook.platform.domain.entity.DeliveryJobEntity;
 import com.webhook.platform.domain.model.DeliveryStatus;
+import com.webhook.platform.domain.policy.AdaptiveBatchPolicy;
 import com.webhook.platform.infra.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @RequiredArgsConstructor
@@ -20,19 +27,86 @@ public class RetryDispatcher {
 
   private final DeliveryJobRepository jobRepository;
   private final RabbitTemplate rabbitTemplate;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate transactionTemplate;
 
-  private static final int BATCH_SIZE = 50;
+  @Value("${app.retry.dispatch.min-batch-size:50}")
+  private int minBatchSize;
 
-  @Scheduled(fixedDelay = 5000) // Poll every 5 seconds
-  @Transactional
-  public void scheduleRetries() {
+  @Value("${app.retry.dispatch.max-batch-size:1000}")
+  private int maxBatchSize;
+
+  @Value("${app.retry.dispatch.min-delay-ms:250}")
+  private long minDelayMs;
+
+  @Value("${app.retry.dispatch.max-delay-ms:5000}")
+  private long maxDelayMs;
+
+  @Value("${app.retry.dispatch.max-drain-ms:1000}")
+  private long maxDrainMs;
+
+  private final AtomicLong backlog = new AtomicLong();
+  private AdaptiveBatchPolicy batchPolicy;
+  private Counter loops;
+
+  @PostConstruct
+  void init() {
+    batchPolicy = new AdaptiveBatchPolicy(minBatchSize, maxBatchSize, minDelayMs, maxDelayMs);
+
+    loops = meterRegistry.counter("webhook.dispatcher.loops", "dispatcher", "retry");
+    Gauge.builder("webhook.dispatcher.batch_size", batchPolicy, AdaptiveBatchPolicy::batchSize)
+        .tag("dispatcher", "retry")
+        .register(meterRegistry);
+    Gauge.builder("webhook.dispatcher.delay_ms", batchPolicy, AdaptiveBatchPolicy::delayMs)
+        .tag("dispatcher", "retry")
+        .register(meterRegistry);
+    Gauge.builder("webhook.dispatcher.backlog", backlog, AtomicLong::get)
+        .tag("dispatcher", "retry")
+        .register(meterRegistry);
+  }
+
+  // Refreshed on a slow schedule rather than counted on every scrape.
+  @Scheduled(fixedDelayString = "${app.dispatcher.backlog.refresh-interval-ms:30000}")
+  public void refreshBacklog() {
+    try {
+      backlog.set(
+          jobRepository.countByStatusAndNextAttemptAtLessThanEqual(
+              DeliveryStatus.PENDING, LocalDateTime.now()));
+    } catch (Exception e) {
+      log.warn("Counting the retry backlog failed", e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.retry.dispatch.min-delay-ms:250}")
+  public void poll() {
+    if (!batchPolicy.isDue(System.currentTimeMillis())) {
+      return;
+    }
+    long drainUntil = System.currentTimeMillis() + maxDrainMs;
+    while (scheduleRetries() > 0 && batchPolicy.delayMs() == 0) {
+      if (System.currentTimeMillis() >= drainUntil) {
+        break;
+      }
+    }
+  }
+
+  // Returns the number of jobs re-enqueued.
+  public int scheduleRetries() {
+    int requested = batchPolicy.batchSize();
+    Integer scheduled = transactionTemplate.execute(status -> enqueueBatch(requested));
+    int count = scheduled != null ? scheduled : 0;
+    loops.increment();
+    batchPolicy.record(count, requested, System.currentTimeMillis());
+    return count;
+  }
+
+  private int enqueueBatch(int batchSize) {
     LocalDateTime now = LocalDateTime.now();
 
-    List<DeliveryJobEntity> jobs =
-        jobRepository.findPendingJobsForUpdateSkipLocked(now, BATCH_SIZE);
+    List<DeliveryJobEntity> jobs = jobRepository.findPendingJobsForUpdateSkipLocked(now, batchSize);
 
     if (jobs.isEmpty()) {
-      return;
+      return 0;
     }
 
     log.info("Found {} jobs to retry", jobs.size());
@@ -64,5 +138,6 @@ public class RetryDispatcher {
         throw e;
       }
     }
+    return jobs.size();
   }
 }
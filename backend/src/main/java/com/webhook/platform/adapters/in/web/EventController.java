@@ -1,14 +1,37 @@
 package com.webhook.platform.adapters.in.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webhook.platform.adapters.in.web.dto.EventDTOs.BatchCreateEventRequest;
+import com.webhook.platform.adapters.in.web.dto.EventDTOs.BatchEventResponse;
+import com.webhook.platform.adapters.in.web.dto.EventDTOs.BatchItemResult;
+import com.webhook.platform.adapters.in.web.dto.EventDTOs.BatchTooLargeResponse;
 import com.webhook.platform.adapters.in.web.dto.EventDTOs.CreateEventRequest;
 import com.webhook.platform.adapters.in.web.dto.EventDTOs.EventResponse;
+import com.webhook.platform.adapters.in.web.dto.EventDTOs.StreamLineError;
+import com.webhook.platform.adapters.in.web.dto.EventDTOs.StreamProgress;
+import com.webhook.platform.application.command.CreateEventCommand;
 import com.webhook.platform.application.service.EventService;
 import com.webhook.platform.domain.model.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,23 +42,215 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/events")
 @RequiredArgsConstructor
+@Slf4j
 public class EventController {
 
   private final EventService service;
   private final ObjectMapper objectMapper;
+  private final Validator validator;
+
+  private static final String NDJSON = "application/x-ndjson";
+  private static final int EOF = -1;
+  private static final int LINE_OK = 0;
+  private static final int LINE_TOO_LONG = 1;
+
+  @Value("${app.events.batch.max-size:1000}")
+  private int maxBatchSize;
+
+  @Value("${app.events.stream.chunk-size:500}")
+  private int streamChunkSize;
+
+  @Value("${app.events.stream.max-line-length:1048576}")
+  private int maxLineLength;
 
   @PostMapping
-  @SneakyThrows
   public ResponseEntity<EventResponse> create(
       @AuthenticationPrincipal User user, @Valid @RequestBody CreateEventRequest request) {
 
-    String payloadJson =
-        request.getPayload() instanceof String
-            ? (String) request.getPayload()
-            : objectMapper.writeValueAsString(request.getPayload());
-
-    UUID eventId = service.createEvent(user.getTenantId(), request.getEventType(), payloadJson);
+    UUID eventId =
+        service.createEvent(user.getTenantId(), request.getEventType(), request.getPayload());
 
     return ResponseEntity.ok(new EventResponse(eventId));
   }
+
+  @PostMapping("/batch")
+  public ResponseEntity<?> createBatch(
+      @AuthenticationPrincipal User user, @Valid @RequestBody BatchCreateEventRequest request) {
+
+    List<CreateEventRequest> events = request.getEvents();
+    if (events.size() > maxBatchSize) {
+      // Nothing is stored; the caller has to split the batch (or use /events/stream).
+      return ResponseEntity.badRequest()
+          .body(
+              new BatchTooLargeResponse(
+                  "Batch exceeds " + maxBatchSize + " events", events.size(), maxBatchSize));
+    }
+
+    BatchItemResult[] results = new BatchItemResult[events.size()];
+    List<Integer> acceptedIndexes = new ArrayList<>(events.size());
+    List<CreateEventCommand> commands = new ArrayList<>(events.size());
+
+    for (int i = 0; i < events.size(); i++) {
+      CreateEventRequest item = events.get(i);
+      String error = validate(item);
+      if (error != null) {
+        results[i] = new BatchItemResult(i, null, error);
+        continue;
+      }
+      acceptedIndexes.add(i);
+      commands.add(new CreateEventCommand(item.getEventType(), item.getPayload()));
+    }
+
+    if (!commands.isEmpty()) {
+      List<UUID> ids = service.createEvents(user.getTenantId(), commands);
+      for (int i = 0; i < ids.size(); i++) {
+        int index = acceptedIndexes.get(i);
+        results[index] = new BatchItemResult(index, ids.get(i), null);
+      }
+    }
+
+    return ResponseEntity.ok(
+        new BatchEventResponse(commands.size(), events.size() - commands.size(), List.of(results)));
+  }
+
+  @PostMapping(path = "/stream", consumes = NDJSON)
+  public void createStream(
+      @AuthenticationPrincipal User user, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+
+    response.setContentType(NDJSON);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    PrintWriter out = response.getWriter();
+
+    long lineNo = 0;
+    long accepted = 0;
+    long rejected = 0;
+    List<CreateEventCommand> chunk = new ArrayList<>(streamChunkSize);
+    List<Long> chunkLines = new ArrayList<>(streamChunkSize);
+
+    // Lines are parsed and flushed chunk by chunk, so memory stays bounded by the chunk size
+    // (and the max line length) no matter how large the upload is. Each chunk commits on its own.
+    try (Reader reader =
+        new BufferedReader(
+            new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+      StringBuilder line = new StringBuilder();
+      int status;
+      while ((status = readLine(reader, line)) != EOF) {
+        lineNo++;
+        if (status == LINE_TOO_LONG) {
+          rejected++;
+          writeLine(out, new StreamLineError(lineNo, "Line exceeds " + maxLineLength + " chars"));
+          continue;
+        }
+        String text = line.toString();
+        if (text.isBlank()) {
+          continue;
+        }
+
+        String error;
+        CreateEventRequest item = null;
+        try {
+          item = objectMapper.readValue(text, CreateEventRequest.class);
+          error = validate(item);
+        } catch (JsonProcessingException e) {
+          error = "Malformed JSON: " + e.getOriginalMessage();
+        }
+
+        if (error != null) {
+          rejected++;
+          writeLine(out, new StreamLineError(lineNo, error));
+          continue;
+        }
+
+        chunk.add(new CreateEventCommand(item.getEventType(), item.getPayload()));
+        chunkLines.add(lineNo);
+        if (chunk.size() >= streamChunkSize) {
+          int size = chunk.size();
+          int saved = flushChunk(user, chunk, chunkLines, out);
+          accepted += saved;
+          rejected += size - saved;
+          writeLine(out, new StreamProgress(lineNo, accepted, rejected, false));
+        }
+      }
+    }
+
+    if (!chunk.isEmpty()) {
+      int size = chunk.size();
+      int saved = flushChunk(user, chunk, chunkLines, out);
+      accepted += saved;
+      rejected += size - saved;
+    }
+    writeLine(out, new StreamProgress(lineNo, accepted, rejected, true));
+  }
+
+  /** Reads one line into {@code line}; the remainder of an over-long line is skipped. */
+  private int readLine(Reader reader, StringBuilder line) throws IOException {
+    line.setLength(0);
+    boolean tooLong = false;
+    int c;
+    while ((c = reader.read()) != -1) {
+      if (c == '\n') {
+        return tooLong ? LINE_TOO_LONG : LINE_OK;
+      }
+      if (tooLong || c == '\r') {
+        continue;
+      }
+      if (line.length() >= maxLineLength) {
+        tooLong = true;
+        line.setLength(0);
+        continue;
+      }
+      line.append((char) c);
+    }
+    if (tooLong) {
+      return LINE_TOO_LONG;
+    }
+    return line.length() > 0 ? LINE_OK : EOF;
+  }
+
+  /**
+   * Stores one chunk and returns how many events were saved. A chunk commits or rolls back as a
+   * whole, so when it fails every line in it is reported as rejected and the stream carries on.
+   */
+  private int flushChunk(
+      User user, List<CreateEventCommand> chunk, List<Long> lines, PrintWriter out)
+      throws JsonProcessingException {
+    try {
+      return service.createEvents(user.getTenantId(), chunk).size();
+    } catch (RuntimeException e) {
+      log.error(
+          "Failed to store {} streamed events (lines {}-{})",
+          chunk.size(),
+          lines.get(0),
+          lines.get(lines.size() - 1),
+          e);
+      for (long line : lines) {
+        writeLine(out, new StreamLineError(line, "Failed to store event"));
+      }
+      return 0;
+    } finally {
+      chunk.clear();
+      lines.clear();
+    }
+  }
+
+  private void writeLine(PrintWriter out, Object value) throws JsonProcessingException {
+    out.write(objectMapper.writeValueAsString(value));
+    out.write('\n');
+    out.flush();
+  }
+
+  private String validate(CreateEventRequest item) {
+    if (item == null) {
+      return "Event is required";
+    }
+    Set<ConstraintViolation<CreateEventRequest>> violations = validator.validate(item);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
 }
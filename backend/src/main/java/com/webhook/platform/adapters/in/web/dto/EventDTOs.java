@@ -1,6 +1,9 @@
 package com.webhook.platform.adapters.in.web.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,8 +18,10 @@ public class EventDTOs {
     @NotBlank(message = "Event type is required")
     private String eventType;
 
+    // Kept as raw JSON text: no Map/List binding and no re-serialization before storage.
     @jakarta.validation.constraints.NotNull(message = "Payload is required")
-    private Object payload;
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String payload;
   }
 
   @Data
@@ -25,4 +30,23 @@ public class EventDTOs {
   public static class EventResponse {
     private UUID id;
   }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class BatchCreateEventRequest {
+    // Items are validated one by one so a single bad entry does not reject the whole batch.
+    @NotEmpty(message = "At least one event is required")
+    private List<CreateEventRequest> events;
+  }
+
+  public record BatchItemResult(int index, UUID id, String error) {}
+
+  public record BatchEventResponse(int accepted, int rejected, List<BatchItemResult> items) {}
+
+  public record BatchTooLargeResponse(String error, int size, int maxBatchSize) {}
+
+  public record StreamLineError(long line, String error) {}
+
+  public record StreamProgress(long lines, long accepted, long rejected, boolean done) {}
 }
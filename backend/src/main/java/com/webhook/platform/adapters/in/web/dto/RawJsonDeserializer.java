@@ -0,0 +1,39 @@
+package com.webhook.platform.adapters.in.web.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Captures a JSON value as its compact text without binding it to Maps/Lists first. Tokens are
+ * copied straight from the parser, so numbers keep their original precision. A top-level JSON
+ * string is returned as its content, matching how string payloads have always been stored.
+ */
+public class RawJsonDeserializer extends JsonDeserializer<String> {
+
+  @Override
+  public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.currentToken() == JsonToken.VALUE_STRING) {
+      return p.getText();
+    }
+
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator g = p.getCodec().getFactory().createGenerator(writer)) {
+      int depth = 0;
+      do {
+        JsonToken token = p.currentToken();
+        g.copyCurrentEventExact(p);
+        if (token.isStructStart()) {
+          depth++;
+        } else if (token.isStructEnd()) {
+          depth--;
+        }
+      } while (depth > 0 && p.nextToken() != null);
+    }
+    return writer.toString();
+  }
+}
@@ -0,0 +1,173 @@
+package com.webhook.platform.adapters.out.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.webhook.platform.application.port.out.OutboxArchive;
+import com.webhook.platform.domain.entity.DeadLetterEntity;
+import com.webhook.platform.domain.entity.DeliveryAttemptEntity;
+import com.webhook.platform.domain.entity.DeliveryJobEntity;
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes archived events as gzip-compressed NDJSON, one file per archival run. Files are written as
+ * {@code .part} and renamed when the run completes, so a finished archive is never partial.
+ */
+@Component
+public class GzipFileOutboxArchive implements OutboxArchive {
+
+  private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private final Path directory;
+  private final ObjectMapper mapper;
+
+  public GzipFileOutboxArchive(@Value("${app.outbox.archive.dir:./archive}") Path directory) {
+    this.directory = directory;
+    // Own mapper: archive lines must not change shape with the web layer's Jackson settings.
+    this.mapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  @Override
+  public Writer open(LocalDateTime startedAt) {
+    try {
+      Files.createDirectories(directory);
+      // Suffix keeps names unique when several nodes archive into a shared directory.
+      String name =
+          "outbox-"
+              + FILE_TIME.format(startedAt)
+              + "-"
+              + UUID.randomUUID().toString().substring(0, 8)
+              + ".ndjson.gz";
+      Path target = directory.resolve(name);
+      return new GzipWriter(target);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open outbox archive in " + directory, e);
+    }
+  }
+
+  private class GzipWriter implements Writer {
+
+    private final Path target;
+    private final Path part;
+    private final FileOutputStream file;
+    private final GZIPOutputStream gzip;
+    private long lines;
+
+    GzipWriter(Path target) throws IOException {
+      this.target = target;
+      this.part = target.resolveSibling(target.getFileName() + ".part");
+      this.file = new FileOutputStream(part.toFile());
+      // syncFlush: each chunk is a complete deflate block on disk before its rows are deleted.
+      this.gzip = new GZIPOutputStream(file, 64 * 1024, true);
+    }
+
+    @Override
+    public void append(List<ArchivedEvent> events) {
+      try {
+        for (ArchivedEvent event : events) {
+          writeLine(gzip, toRecord(event));
+        }
+        gzip.flush();
+        file.getFD().sync();
+        lines += events.size();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to write outbox archive " + part, e);
+      }
+    }
+
+    @Override
+    public String location() {
+      return target.toString();
+    }
+
+    @Override
+    public void close() {
+      try {
+        gzip.close();
+        if (lines == 0) {
+          Files.deleteIfExists(part);
+        } else {
+          Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to finish outbox archive " + target, e);
+      }
+    }
+  }
+
+  private void writeLine(OutputStream out, Map<String, Object> record) throws IOException {
+    out.write(mapper.writeValueAsBytes(record));
+    out.write('\n');
+  }
+
+  // Explicit field maps rather than entity serialization: DeliveryJobEntity has a lazy endpoint
+  // association, and the archive format should not follow entity refactorings.
+  private static Map<String, Object> toRecord(ArchivedEvent archived) {
+    OutboxEventEntity event = archived.event();
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("id", event.getId());
+    record.put("tenantId", event.getTenantId());
+    record.put("eventType", event.getEventType());
+    record.put("status", event.getStatus());
+    record.put("createdAt", event.getCreatedAt());
+    record.put("publishedAt", event.getPublishedAt());
+    record.put("payloadJson", event.getPayloadJson());
+    record.put("payloadGzip", event.getPayloadGzip());
+    record.put("jobs", archived.jobs().stream().map(GzipFileOutboxArchive::toRecord).toList());
+    return record;
+  }
+
+  private static Map<String, Object> toRecord(ArchivedJob archived) {
+    DeliveryJobEntity job = archived.job();
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("id", job.getId());
+    record.put("endpointId", job.getEndpointId());
+    record.put("status", job.getStatus());
+    record.put("attemptCount", job.getAttemptCount());
+    record.put("createdAt", job.getCreatedAt());
+    record.put(
+        "attempts", archived.attempts().stream().map(GzipFileOutboxArchive::toRecord).toList());
+    record.put(
+        "deadLetters",
+        archived.deadLetters().stream().map(GzipFileOutboxArchive::toRecord).toList());
+    return record;
+  }
+
+  private static Map<String, Object> toRecord(DeliveryAttemptEntity attempt) {
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("attemptNo", attempt.getAttemptNo());
+    record.put("httpStatus", attempt.getHttpStatus());
+    record.put("errorType", attempt.getErrorType());
+    record.put("durationMs", attempt.getDurationMs());
+    record.put("responseSnippet", attempt.getResponseSnippet());
+    record.put("createdAt", attempt.getCreatedAt());
+    return record;
+  }
+
+  private static Map<String, Object> toRecord(DeadLetterEntity deadLetter) {
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("id", deadLetter.getId());
+    record.put("reason", deadLetter.getReason());
+    record.put("createdAt", deadLetter.getCreatedAt());
+    return record;
+  }
+}
@@ -0,0 +1,270 @@
+package com.webhook.platform.adapters.out.http;
+
+import com.webhook.platform.application.port.out.WebhookClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebhookClient on the Apache async client. Connections are pooled and kept alive per host, with a
+ * per-host cap so one busy subscriber cannot take the whole pool; requests over the cap wait for a
+ * connection without holding a thread.
+ *
+ * <p>The pool negotiates HTTP/2 where the receiver offers it (ALPN over TLS) and otherwise speaks
+ * HTTP/1.1. Once a host has answered over HTTP/2, later deliveries to it are multiplexed as streams
+ * over a single connection by a dedicated HTTP/2 client; if that fails, the host drops back to the
+ * negotiating pool.
+ */
+@Component
+public class HttpComponentsWebhookClient implements WebhookClient {
+
+  private final PoolingAsyncClientConnectionManager connectionManager;
+  private final CloseableHttpAsyncClient httpClient;
+  private final CloseableHttpAsyncClient h2Client;
+  private final Set<String> http2Hosts = ConcurrentHashMap.newKeySet();
+  private final Duration connectTimeout;
+  private final Duration readTimeout;
+
+  private final Timer http1Latency;
+  private final Timer http2Latency;
+  private final Counter http2Fallbacks;
+
+  @Autowired
+  public HttpComponentsWebhookClient(
+      MeterRegistry meterRegistry,
+      @Value("${app.delivery.http.max-connections:2000}") int maxConnections,
+      @Value("${app.delivery.http.max-connections-per-host:20}") int maxConnectionsPerHost,
+      @Value("${app.delivery.http.connect-timeout:5s}") Duration connectTimeout,
+      @Value("${app.delivery.http.read-timeout:10s}") Duration readTimeout,
+      @Value("${app.delivery.http.keep-alive:30s}") Duration keepAlive,
+      @Value("${app.delivery.http.http2.enabled:true}") boolean http2Enabled,
+      @Value("${app.delivery.http.http2.max-concurrent-streams:100}") int maxConcurrentStreams) {
+    this(
+        meterRegistry,
+        maxConnections,
+        maxConnectionsPerHost,
+        connectTimeout,
+        readTimeout,
+        keepAlive,
+        http2Enabled,
+        maxConcurrentStreams,
+        DefaultClientTlsStrategy.getDefault());
+  }
+
+  HttpComponentsWebhookClient(
+      MeterRegistry meterRegistry,
+      int maxConnections,
+      int maxConnectionsPerHost,
+      Duration connectTimeout,
+      Duration readTimeout,
+      Duration keepAlive,
+      boolean http2Enabled,
+      int maxConcurrentStreams,
+      TlsStrategy tlsStrategy) {
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+    ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(connectTimeout))
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build();
+    this.connectionManager =
+        PoolingAsyncClientConnectionManagerBuilder.create()
+            .setTlsStrategy(tlsStrategy)
+            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerHost)
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+    this.httpClient =
+        HttpAsyncClients.custom()
+            .setConnectionManager(connectionManager)
+            .setVersionPolicy(
+                http2Enabled ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+            .disableRedirectHandling()
+            .disableAutomaticRetries()
+            .disableCookieManagement()
+            // Idle sockets are reused for the next delivery to the same host until this expires.
+            .evictIdleConnections(TimeValue.of(keepAlive))
+            .build();
+    this.httpClient.start();
+
+    if (http2Enabled) {
+      this.h2Client =
+          H2AsyncClientBuilder.create()
+              .setTlsStrategy(tlsStrategy)
+              .setDefaultConnectionConfig(connectionConfig)
+              .setH2Config(H2Config.custom().setMaxConcurrentStreams(maxConcurrentStreams).build())
+              .disableRedirectHandling()
+              .disableAutomaticRetries()
+              .disableCookieManagement()
+              .evictIdleConnections(TimeValue.of(keepAlive))
+              .build();
+      this.h2Client.start();
+    } else {
+      this.h2Client = null;
+    }
+
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "webhook-delivery")
+        .bindTo(meterRegistry);
+    Gauge.builder("webhook.delivery.http.saturated_hosts", this, c -> c.saturatedHosts())
+        .description("Hosts whose connections are all leased, so new deliveries queue")
+        .register(meterRegistry);
+    Gauge.builder("webhook.delivery.http.http2_hosts", http2Hosts, Set::size)
+        .description("Hosts currently delivered to over multiplexed HTTP/2")
+        .register(meterRegistry);
+    this.http1Latency = latencyTimer(meterRegistry, "http/1.1");
+    this.http2Latency = latencyTimer(meterRegistry, "h2");
+    this.http2Fallbacks =
+        Counter.builder("webhook.delivery.http.http2_fallback")
+            .description("Hosts moved back to HTTP/1.1 negotiation after an HTTP/2 failure")
+            .register(meterRegistry);
+  }
+
+  private static Timer latencyTimer(MeterRegistry meterRegistry, String protocol) {
+    return Timer.builder("webhook.delivery.http.latency")
+        .description("Time from sending a delivery to receiving the full response")
+        .tag("protocol", protocol)
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void close() {
+    httpClient.close(CloseMode.GRACEFUL);
+    if (h2Client != null) {
+      h2Client.close(CloseMode.GRACEFUL);
+    }
+  }
+
+  @Override
+  public CompletableFuture<ResponseEntity<String>> postAsync(
+      String url, Map<String, String> headers, byte[] body, Duration timeout) {
+    SimpleRequestBuilder builder =
+        SimpleRequestBuilder.post(url).setBody(body, ContentType.APPLICATION_JSON);
+    headers.forEach(builder::addHeader);
+    SimpleHttpRequest request = builder.build();
+
+    URI uri = URI.create(url);
+    String host = uri.getScheme() + "://" + uri.getAuthority();
+    boolean multiplexed = h2Client != null && http2Hosts.contains(host);
+
+    // The endpoint's timeout is the total deadline; connect and read (socket inactivity) are
+    // additionally capped by the client-wide settings, and waiting for a pooled connection counts
+    // against the deadline too.
+    HttpClientContext context = HttpClientContext.create();
+    context.setRequestConfig(requestConfig(timeout));
+
+    long start = System.nanoTime();
+    CompletableFuture<ResponseEntity<String>> result = new CompletableFuture<>();
+    Future<SimpleHttpResponse> exchange =
+        (multiplexed ? h2Client : httpClient)
+            .execute(
+                request,
+                context,
+                new FutureCallback<>() {
+                  @Override
+                  public void completed(SimpleHttpResponse response) {
+                    boolean http2 =
+                        response.getVersion() != null
+                            && response.getVersion().greaterEquals(HttpVersion.HTTP_2);
+                    (http2 ? http2Latency : http1Latency)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if (http2 && h2Client != null) {
+                      http2Hosts.add(host);
+                    }
+                    result.complete(
+                        ResponseEntity.status(HttpStatusCode.valueOf(response.getCode()))
+                            .body(response.getBodyText()));
+                  }
+
+                  @Override
+                  public void failed(Exception e) {
+                    // Not retried here: the delivery may already have reached the receiver, so
+                    // it goes through the normal retry path and renegotiates on the next attempt.
+                    // A slow receiver says nothing about its protocol support.
+                    if (multiplexed
+                        && !(e instanceof InterruptedIOException)
+                        && http2Hosts.remove(host)) {
+                      http2Fallbacks.increment();
+                    }
+                    result.completeExceptionally(e);
+                  }
+
+                  @Override
+                  public void cancelled() {
+                    result.cancel(false);
+                  }
+                });
+
+    result
+        .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                // Frees the connection of a receiver that is still trickling its response.
+                exchange.cancel(true);
+              }
+            });
+    return result;
+  }
+
+  @SuppressWarnings("deprecation") // request-level connect timeout is still honored in 5.2
+  private RequestConfig requestConfig(Duration deadline) {
+    return RequestConfig.custom()
+        .setConnectionRequestTimeout(Timeout.of(deadline))
+        .setConnectTimeout(Timeout.of(min(connectTimeout, deadline)))
+        .setResponseTimeout(Timeout.of(min(readTimeout, deadline)))
+        .build();
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+
+  private int saturatedHosts() {
+    return (int)
+        connectionManager.getRoutes().stream()
+            .map(connectionManager::getStats)
+            .filter(stats -> stats.getLeased() >= stats.getMax())
+            .count();
+  }
+}
@@ -0,0 +1,110 @@
+package com.webhook.platform.adapters.out.persistence;
+
+import com.webhook.platform.application.port.out.OutboxPartitionManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class PostgresOutboxPartitionManager implements OutboxPartitionManager {
+
+  private static final String PARENT = "outbox_events";
+  private static final Pattern BOUNDS = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+  private static final Pattern SAFE_NAME = Pattern.compile("[a-z0-9_]+");
+  private static final DateTimeFormatter BOUND_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+  private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<Partition> listPartitions() {
+    return jdbcTemplate
+        .query(
+            "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = ?::regclass",
+            (rs, rowNum) -> toPartition(rs.getString(1), rs.getString(2)),
+            PARENT)
+        .stream()
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  @Override
+  public void createDailyPartition(LocalDate day) {
+    String name = PARENT + "_p" + day.format(NAME_FORMAT);
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS "
+            + name
+            + " PARTITION OF "
+            + PARENT
+            + " FOR VALUES FROM ('"
+            + day
+            + "') TO ('"
+            + day.plusDays(1)
+            + "')");
+  }
+
+  @Override
+  public Optional<LocalDateTime> oldestPendingEvent(String partition) {
+    return Optional.ofNullable(
+        jdbcTemplate.queryForObject(
+            "SELECT MIN(created_at) FROM " + safe(partition) + " WHERE status = 'PENDING'",
+            LocalDateTime.class));
+  }
+
+  // No FK protects delivery rows from a dropped partition (see V7), so they go in the same
+  // transaction, children first, as OutboxArchivalService does for archived events.
+  @Override
+  @Transactional
+  public void dropPartition(String partition) {
+    String events = safe(partition);
+    String jobs =
+        "SELECT j.id FROM delivery_jobs j JOIN " + events + " e ON e.id = j.outbox_event_id";
+    jdbcTemplate.update("DELETE FROM delivery_attempts WHERE delivery_job_id IN (" + jobs + ")");
+    jdbcTemplate.update("DELETE FROM dead_letters WHERE delivery_job_id IN (" + jobs + ")");
+    jdbcTemplate.update(
+        "DELETE FROM delivery_jobs j USING " + events + " e WHERE j.outbox_event_id = e.id");
+    jdbcTemplate.update(
+        "DELETE FROM delivered_dedupe d USING " + events + " e WHERE d.outbox_event_id = e.id");
+    jdbcTemplate.execute("DROP TABLE " + events);
+  }
+
+  @Override
+  public void detachPartition(String partition) {
+    jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + safe(partition));
+  }
+
+  // The DEFAULT partition has no bounds and is never managed here.
+  private Partition toPartition(String name, String boundExpr) {
+    Matcher m = BOUNDS.matcher(boundExpr);
+    if (!m.find()) {
+      return null;
+    }
+    return new Partition(name, parseBound(m.group(1)), parseBound(m.group(2)));
+  }
+
+  private LocalDateTime parseBound(String bound) {
+    if ("MINVALUE".equals(bound) || "MAXVALUE".equals(bound)) {
+      return null;
+    }
+    return LocalDateTime.parse(bound.replace("'", ""), BOUND_FORMAT);
+  }
+
+  private String safe(String identifier) {
+    if (!SAFE_NAME.matcher(identifier).matches()) {
+      throw new IllegalArgumentException("Unexpected partition name: " + identifier);
+    }
+    return identifier;
+  }
+}
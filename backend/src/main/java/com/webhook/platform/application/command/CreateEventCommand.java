@@ -0,0 +1,3 @@
+package com.webhook.platform.application.command;
+
+public record CreateEventCommand(String eventType, String payloadJson) {}
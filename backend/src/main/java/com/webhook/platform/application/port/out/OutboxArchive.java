@@ -0,0 +1,31 @@
+package com.webhook.platform.application.port.out;
+
+import com.webhook.platform.domain.entity.DeadLetterEntity;
+import com.webhook.platform.domain.entity.DeliveryAttemptEntity;
+import com.webhook.platform.domain.entity.DeliveryJobEntity;
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxArchive {
+
+  record ArchivedJob(
+      DeliveryJobEntity job,
+      List<DeliveryAttemptEntity> attempts,
+      List<DeadLetterEntity> deadLetters) {}
+
+  record ArchivedEvent(OutboxEventEntity event, List<ArchivedJob> jobs) {}
+
+  Writer open(LocalDateTime startedAt);
+
+  interface Writer extends AutoCloseable {
+
+    // Must be durable when this returns: the caller deletes the rows right after.
+    void append(List<ArchivedEvent> events);
+
+    String location();
+
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,24 @@
+package com.webhook.platform.application.port.out;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxPartitionManager {
+
+  // Range partition of outbox_events; from is null for a partition that starts at MINVALUE.
+  record Partition(String name, LocalDateTime from, LocalDateTime to) {}
+
+  List<Partition> listPartitions();
+
+  void createDailyPartition(LocalDate day);
+
+  /** created_at of the oldest PENDING event in the partition, if it has any. */
+  Optional<LocalDateTime> oldestPendingEvent(String partition);
+
+  /** Drops the partition along with the delivery jobs, attempts and dedupe rows of its events. */
+  void dropPartition(String partition);
+
+  void detachPartition(String partition);
+}
@@ -1,8 +1,16 @@
 package com.webhook.platform.application.port.out;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 
 public interface WebhookClient {
-  ResponseEntity<String> post(String url, Map<String, String> headers, String body);
+  // The body is sent exactly as given; callers encode the payload once per event.
+  // timeout is the total deadline for the exchange, including waiting for a pooled connection.
+  // Non-blocking: no thread is held while waiting for the receiver. Any HTTP status completes
+  // the future normally; only transport failures (connect, timeout, I/O) complete it
+  // exceptionally.
+  CompletableFuture<ResponseEntity<String>> postAsync(
+      String url, Map<String, String> headers, byte[] body, Duration timeout);
 }
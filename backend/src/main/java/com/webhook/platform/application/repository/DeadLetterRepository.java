@@ -1,9 +1,21 @@
 package com.webhook.platform.application.repository;
 
 import com.webhook.platform.domain.entity.*;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface DeadLetterRepository extends JpaRepository<DeadLetterEntity, UUID> {}
+public interface DeadLetterRepository extends JpaRepository<DeadLetterEntity, UUID> {
+
+  List<DeadLetterEntity> findByDeliveryJobIdIn(Collection<UUID> deliveryJobIds);
+
+  @Modifying
+  @Query("DELETE FROM DeadLetterEntity d WHERE d.deliveryJobId IN :jobIds")
+  int deleteByJobIds(@Param("jobIds") Collection<UUID> jobIds);
+}
@@ -1,9 +1,55 @@
 package com.webhook.platform.application.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.webhook.platform.domain.entity.*;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DeliveredDedupeRepository
-    extends JpaRepository<DeliveredDedupeEntity, DeliveredDedupeId> {}
+    extends JpaRepository<DeliveredDedupeEntity, DeliveredDedupeId> {
+
+  @Modifying
+  @Query("DELETE FROM DeliveredDedupeEntity d WHERE d.id.outboxEventId IN :eventIds")
+  int deleteByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+  // A plain INSERT, where save() would SELECT first for the assigned id. A pair delivered twice
+  // (e.g. by two nodes racing) keeps its first row.
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO delivered_dedupe (endpoint_id, outbox_event_id, delivered_at)"
+              + " VALUES (:endpointId, :eventId, :deliveredAt) ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("endpointId") UUID endpointId,
+      @Param("eventId") UUID eventId,
+      @Param("deliveredAt") LocalDateTime deliveredAt);
+
+  /** Scalar rows, so streaming a large range does not fill the persistence context. */
+  interface DeliveredPair {
+    UUID getEndpointId();
+
+    UUID getEventId();
+
+    LocalDateTime getDeliveredAt();
+  }
+
+  // Must be consumed inside a transaction, so Postgres streams with a cursor.
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+      "SELECT d.id.endpointId AS endpointId, d.id.outboxEventId AS eventId,"
+          + " d.deliveredAt AS deliveredAt"
+          + " FROM DeliveredDedupeEntity d WHERE d.deliveredAt > :since")
+  Stream<DeliveredPair> streamDeliveredAfter(@Param("since") LocalDateTime since);
+}
@@ -1,12 +1,22 @@
 package com.webhook.platform.application.repository;
 
 import com.webhook.platform.domain.entity.*;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DeliveryAttemptRepository extends JpaRepository<DeliveryAttemptEntity, UUID> {
   List<DeliveryAttemptEntity> findByDeliveryJobIdOrderByCreatedAtDesc(UUID deliveryJobId);
+
+  List<DeliveryAttemptEntity> findByDeliveryJobIdIn(Collection<UUID> deliveryJobIds);
+
+  @Modifying
+  @Query("DELETE FROM DeliveryAttemptEntity a WHERE a.deliveryJobId IN :jobIds")
+  int deleteByJobIds(@Param("jobIds") Collection<UUID> jobIds);
 }
@@ -3,11 +3,15 @@ package com.webhook.platform.application.repository;
 import com.webhook.platform.domain.entity.*;
 import com.webhook.platform.domain.model.DeliveryStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,14 +24,33 @@ public interface DeliveryJobRepository extends JpaRepository<DeliveryJobEntity,
   List<DeliveryJobEntity> findPendingJobsForUpdateSkipLocked(
       @Param("now") LocalDateTime now, @Param("limit") int limit);
 
-  long countByEndpointIdAndStatus(UUID endpointId, DeliveryStatus status);
-
   Page<DeliveryJobEntity> findByStatus(DeliveryStatus status, Pageable pageable);
 
+  // The API renders the endpoint name, and open-in-view is off, so fetch it with the job.
+  @EntityGraph(attributePaths = "endpoint")
   Page<DeliveryJobEntity> findByEndpointTenantId(UUID tenantId, Pageable pageable);
 
+  @EntityGraph(attributePaths = "endpoint")
   Page<DeliveryJobEntity> findByEndpointTenantIdAndStatus(
       UUID tenantId, DeliveryStatus status, Pageable pageable);
 
+  @EntityGraph(attributePaths = "endpoint")
+  Optional<DeliveryJobEntity> findWithEndpointById(UUID id);
+
   long countByStatus(DeliveryStatus status);
+
+  long countByStatusAndNextAttemptAtLessThanEqual(DeliveryStatus status, LocalDateTime now);
+
+  List<DeliveryJobEntity> findByOutboxEventIdIn(Collection<UUID> outboxEventIds);
+
+  // Records an attempt's outcome without loading the job first, as save() on a detached job does.
+  @Modifying
+  @Query(
+      "UPDATE DeliveryJobEntity j SET j.status = :status, j.attemptCount = :attemptCount,"
+          + " j.nextAttemptAt = :nextAttemptAt WHERE j.id = :id")
+  int updateResult(
+      @Param("id") UUID id,
+      @Param("status") DeliveryStatus status,
+      @Param("attemptCount") int attemptCount,
+      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
 }
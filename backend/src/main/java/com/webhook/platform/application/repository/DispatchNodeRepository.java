@@ -0,0 +1,22 @@
+package com.webhook.platform.application.repository;
+
+import com.webhook.platform.domain.entity.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface DispatchNodeRepository extends JpaRepository<DispatchNodeEntity, String> {
+
+  List<DispatchNodeEntity> findByHeartbeatAtAfterOrderByNodeIdAsc(LocalDateTime since);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM DispatchNodeEntity n WHERE n.heartbeatAt < :before")
+  int deleteStale(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,89 @@
+package com.webhook.platform.application.repository;
+
+import com.webhook.platform.domain.entity.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface EndpointDeliveryLeaseRepository
+    extends JpaRepository<EndpointDeliveryLeaseEntity, EndpointDeliveryLeaseId> {
+
+  @Query(
+      "SELECT l.id FROM EndpointDeliveryLeaseEntity l "
+          + "WHERE l.owner = :owner AND l.leaseUntil >= :now")
+  List<EndpointDeliveryLeaseId> findHeld(
+      @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+  // Creates slots 0..limit-1 that do not exist yet. Not save(): merging over a row another node
+  // just inserted would wipe its lease.
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO endpoint_delivery_leases (endpoint_id, slot) "
+              + "SELECT :endpointId, s.slot FROM generate_series(0, :limit - 1) AS s(slot) "
+              + "ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertSlots(@Param("endpointId") UUID endpointId, @Param("limit") int limit);
+
+  // A free or expired slot below the limit, locked until the caller's transaction ends. Slots
+  // other nodes are claiming right now are skipped instead of waited for.
+  @Query(
+      value =
+          "SELECT slot FROM endpoint_delivery_leases WHERE endpoint_id = :endpointId "
+              + "AND slot < :limit AND (owner IS NULL OR lease_until < :now) "
+              + "ORDER BY slot LIMIT 1 FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  Optional<Integer> findFreeSlotForUpdate(
+      @Param("endpointId") UUID endpointId,
+      @Param("limit") int limit,
+      @Param("now") LocalDateTime now);
+
+  // Takes a free or expired slot. Returns 1 when the caller now holds it.
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE EndpointDeliveryLeaseEntity l SET l.owner = :owner, l.leaseUntil = :until "
+          + "WHERE l.id.endpointId = :endpointId AND l.id.slot = :slot "
+          + "AND (l.owner IS NULL OR l.leaseUntil < :now)")
+  int acquire(
+      @Param("endpointId") UUID endpointId,
+      @Param("slot") int slot,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("until") LocalDateTime until);
+
+  // Extends every unexpired slot the owner still holds in one statement.
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE EndpointDeliveryLeaseEntity l SET l.leaseUntil = :until "
+          + "WHERE l.owner = :owner AND l.leaseUntil >= :now")
+  int renew(
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("until") LocalDateTime until);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE EndpointDeliveryLeaseEntity l SET l.owner = NULL, l.leaseUntil = NULL "
+          + "WHERE l.id.endpointId = :endpointId AND l.id.slot = :slot AND l.owner = :owner")
+  int release(
+      @Param("endpointId") UUID endpointId, @Param("slot") int slot, @Param("owner") String owner);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE EndpointDeliveryLeaseEntity l SET l.owner = NULL, l.leaseUntil = NULL "
+          + "WHERE l.owner = :owner")
+  int releaseAll(@Param("owner") String owner);
+}
@@ -1,9 +1,13 @@
 package com.webhook.platform.application.repository;
 
 import com.webhook.platform.domain.entity.*;
+import com.webhook.platform.domain.model.EventStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,10 +15,51 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
 
+  // The created_at lower bound lets Postgres prune partitions older than the dispatch window.
   @Query(
       value =
-          "SELECT * FROM outbox_events WHERE status = :status ORDER BY created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED",
+          "SELECT * FROM outbox_events WHERE status = :status AND created_at >= :since ORDER BY created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED",
       nativeQuery = true)
   List<OutboxEventEntity> findBatchByStatusForUpdateSkipLocked(
-      @Param("status") String status, @Param("limit") int limit);
+      @Param("status") String status,
+      @Param("since") LocalDateTime since,
+      @Param("limit") int limit);
+
+  @Query(
+      value =
+          "SELECT * FROM outbox_events WHERE status = :status AND shard IN (:shards) AND created_at >= :since ORDER BY created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<OutboxEventEntity> findBatchByShardsForUpdateSkipLocked(
+      @Param("status") String status,
+      @Param("shards") Collection<Integer> shards,
+      @Param("since") LocalDateTime since,
+      @Param("limit") int limit);
+
+  // One statement per batch instead of a per-row save; since again bounds the partitions scanned.
+  @Modifying
+  @Query(
+      value =
+          "UPDATE outbox_events SET status = 'ENQUEUED', published_at = :publishedAt WHERE id = ANY(:ids) AND created_at >= :since",
+      nativeQuery = true)
+  int markEnqueued(
+      @Param("ids") UUID[] ids,
+      @Param("since") LocalDateTime since,
+      @Param("publishedAt") LocalDateTime publishedAt);
+
+  long countByStatusAndCreatedAtAfter(EventStatus status, LocalDateTime since);
+
+  // Published before the cutoff and every delivery job finished; events nobody subscribed to have
+  // no jobs at all. Locked so concurrent archivers on other nodes take disjoint chunks.
+  @Query(
+      value =
+          "SELECT * FROM outbox_events e WHERE e.status = 'ENQUEUED' AND e.created_at < :cutoff AND e.published_at < :cutoff AND NOT EXISTS (SELECT 1 FROM delivery_jobs j WHERE j.outbox_event_id = e.id AND j.status NOT IN ('SUCCEEDED', 'FAILED', 'DLQ')) ORDER BY e.created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<OutboxEventEntity> findArchivableForUpdateSkipLocked(
+      @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+      value = "DELETE FROM outbox_events WHERE id = ANY(:ids) AND created_at < :cutoff",
+      nativeQuery = true)
+  int deleteArchived(@Param("ids") UUID[] ids, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,34 @@
+package com.webhook.platform.application.repository;
+
+import com.webhook.platform.domain.entity.*;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxShardLeaseRepository extends JpaRepository<OutboxShardLeaseEntity, Integer> {
+
+  // Takes a free or expired shard, or renews one already held. Returns 1 when the caller owns it.
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE OutboxShardLeaseEntity l SET l.owner = :owner, l.leaseUntil = :until "
+          + "WHERE l.shard = :shard "
+          + "AND (l.owner = :owner OR l.owner IS NULL OR l.leaseUntil < :now)")
+  int acquire(
+      @Param("shard") int shard,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("until") LocalDateTime until);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE OutboxShardLeaseEntity l SET l.owner = NULL, l.leaseUntil = NULL "
+          + "WHERE l.shard = :shard AND l.owner = :owner")
+  int release(@Param("shard") int shard, @Param("owner") String owner);
+}
@@ -2,11 +2,16 @@ package com.webhook.platform.application.repository;
 
 import com.webhook.platform.domain.entity.*;
 import com.webhook.platform.domain.model.EndpointStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface WebhookEndpointRepository extends JpaRepository<WebhookEndpointEntity, UUID> {
   Page<WebhookEndpointEntity> findByTenantId(UUID tenantId, Pageable pageable);
@@ -15,4 +20,16 @@ public interface WebhookEndpointRepository extends JpaRepository<WebhookEndpoint
       UUID tenantId, EndpointStatus status, Pageable pageable);
 
   List<WebhookEndpointEntity> findByTenantIdAndStatus(UUID tenantId, EndpointStatus status);
+
+  // Circuit-breaker state only: a full save() would overwrite concurrent configuration changes.
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE WebhookEndpointEntity e SET e.consecutiveFailures = :failures, "
+          + "e.nextAvailableAt = :until, e.failureReason = :reason WHERE e.id = :id")
+  int updateCircuitState(
+      @Param("id") UUID id,
+      @Param("failures") int failures,
+      @Param("until") LocalDateTime until,
+      @Param("reason") String reason);
 }
@@ -0,0 +1,168 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.repository.DeliveredDedupeRepository;
+import com.webhook.platform.application.repository.DeliveredDedupeRepository.DeliveredPair;
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import com.webhook.platform.domain.policy.RotatingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Node-local Bloom filter over the delivered_dedupe table, so the pre-delivery dedupe check only
+ * hits the database when the (endpoint, event) pair may have been delivered. It is loaded from
+ * recent rows on startup and then picks up rows written by other nodes every refresh interval.
+ *
+ * <p>Generations rotate every rotate-interval, so a pair is remembered for at least (generations -
+ * 1) rotations. Events older than that, a filter that is still loading or one that has not been
+ * refreshed for max-staleness always go to the table.
+ *
+ * <p>Another node's delivery is only seen after the next refresh, so the filter cannot rule out
+ * duplicates that race that window: redelivered messages (e.g. after a partial fan-out failed on
+ * another node) and messages published since the last refresh (minus the overlap), which covers a
+ * dispatcher republishing after a confirm timeout. Those always go to the table too. Publish time
+ * matters here, not creation time: republishes happen during backlogs, when events are old.
+ */
+@Component
+@Slf4j
+public class DeliveredDedupeFilter {
+
+  private final DeliveredDedupeRepository dedupeRepository;
+  private final boolean enabled;
+  private final int generations;
+  private final Duration rotateInterval;
+  private final Duration refreshOverlap;
+  private final long maxStalenessNanos;
+  private final RotatingBloomFilter filter;
+  private final Counter skipped;
+  private final Counter checked;
+
+  private volatile boolean ready;
+  private volatile long lastRefreshNanos;
+  private final AtomicLong loaded = new AtomicLong();
+  private volatile LocalDateTime refreshedUpTo;
+  private long nextRotationNanos;
+
+  public DeliveredDedupeFilter(
+      DeliveredDedupeRepository dedupeRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.delivery.dedupe-filter.enabled:true}") boolean enabled,
+      @Value("${app.delivery.dedupe-filter.expected-insertions:2000000}") long expectedInsertions,
+      @Value("${app.delivery.dedupe-filter.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${app.delivery.dedupe-filter.generations:4}") int generations,
+      @Value("${app.delivery.dedupe-filter.rotate-interval:6h}") Duration rotateInterval,
+      @Value("${app.delivery.dedupe-filter.refresh-overlap:5s}") Duration refreshOverlap,
+      @Value("${app.delivery.dedupe-filter.max-staleness:30s}") Duration maxStaleness) {
+    this.dedupeRepository = dedupeRepository;
+    this.enabled = enabled;
+    this.generations = Math.max(2, generations);
+    this.rotateInterval = rotateInterval;
+    this.refreshOverlap = refreshOverlap;
+    this.maxStalenessNanos = maxStaleness.toNanos();
+    // Sized per generation: expectedInsertions is the deliveries one node sees per rotate-interval.
+    this.filter =
+        enabled
+            ? new RotatingBloomFilter(expectedInsertions, falsePositiveRate, this.generations)
+            : null;
+
+    this.skipped = meterRegistry.counter("webhook.dedupe_filter.checks", "result", "skipped");
+    this.checked = meterRegistry.counter("webhook.dedupe_filter.checks", "result", "checked");
+    meterRegistry.gauge("webhook.dedupe_filter.loaded", loaded);
+  }
+
+  /**
+   * False only when the pair is certainly not in delivered_dedupe; true means look it up. Pass
+   * {@code redelivered} when the broker has handed this message out before. An event without a
+   * publishedAt (not read from the queue) is always looked up.
+   */
+  public boolean mightBeDelivered(UUID endpointId, OutboxEventEntity event, boolean redelivered) {
+    if (!enabled) {
+      return true;
+    }
+    if (redelivered
+        || !ready
+        || System.nanoTime() - lastRefreshNanos > maxStalenessNanos
+        || event.getCreatedAt() == null
+        || event.getCreatedAt().isBefore(LocalDateTime.now().minus(retention()))
+        || event.getPublishedAt() == null
+        || !event.getPublishedAt().isBefore(refreshedUpTo.minus(refreshOverlap))
+        || filter.mightContain(endpointId, event.getId())) {
+      checked.increment();
+      return true;
+    }
+    skipped.increment();
+    return false;
+  }
+
+  public void put(UUID endpointId, UUID eventId) {
+    if (enabled) {
+      filter.put(endpointId, eventId);
+    }
+  }
+
+  /**
+   * Loads the filter on the first call, afterwards rotates it when due and adds rows delivered
+   * since the last refresh. Called from a single scheduler thread.
+   */
+  @Transactional(readOnly = true)
+  public void refresh() {
+    if (!enabled) {
+      return;
+    }
+    long startNanos = System.nanoTime();
+    LocalDateTime now = LocalDateTime.now();
+    if (!ready) {
+      load(now, startNanos);
+      return;
+    }
+
+    if (startNanos - nextRotationNanos >= 0) {
+      filter.rotate();
+      nextRotationNanos += rotateInterval.toNanos();
+    }
+    // The overlap covers transactions that commit after our previous read and clock skew
+    // between nodes; re-adding a pair is harmless.
+    try (Stream<DeliveredPair> pairs =
+        dedupeRepository.streamDeliveredAfter(refreshedUpTo.minus(refreshOverlap))) {
+      pairs.forEach(pair -> filter.put(pair.getEndpointId(), pair.getEventId()));
+    }
+    refreshedUpTo = now;
+    lastRefreshNanos = startNanos;
+  }
+
+  private void load(LocalDateTime now, long startNanos) {
+    long intervalNanos = rotateInterval.toNanos();
+    long count = 0;
+    // Each row goes into the generation it would have reached by now, so it ages out on time.
+    try (Stream<DeliveredPair> pairs =
+        dedupeRepository.streamDeliveredAfter(now.minus(retention()))) {
+      for (DeliveredPair pair : (Iterable<DeliveredPair>) pairs::iterator) {
+        long ageNanos = Duration.between(pair.getDeliveredAt(), now).toNanos();
+        int generation = (int) Math.min(generations - 1, Math.max(0, ageNanos / intervalNanos));
+        filter.put(pair.getEndpointId(), pair.getEventId(), generation);
+        count++;
+      }
+    }
+    loaded.set(count);
+    refreshedUpTo = now;
+    nextRotationNanos = startNanos + intervalNanos;
+    lastRefreshNanos = startNanos;
+    ready = true;
+    log.info(
+        "Loaded {} delivered pairs into the dedupe filter in {} ms",
+        count,
+        Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+  }
+
+  private Duration retention() {
+    return rotateInterval.multipliedBy(generations - 1);
+  }
+}
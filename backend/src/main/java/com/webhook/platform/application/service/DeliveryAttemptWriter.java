@@ -0,0 +1,182 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.repository.DeliveryAttemptRepository;
+import com.webhook.platform.domain.entity.DeliveryAttemptEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind for delivery attempt history. Attempts are queued by the delivery threads and
+ * inserted by one background thread in JDBC batches, so recording a result does not wait for an
+ * INSERT. Attempts are only history: a job's state never depends on them, so it is fine for them to
+ * land a few milliseconds after the job is updated.
+ */
+@Component
+@Slf4j
+public class DeliveryAttemptWriter {
+
+  private final DeliveryAttemptRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int maxBatchSize;
+  private final long maxWaitNanos;
+  private final long maxBlockNanos;
+  private final BlockingQueue<DeliveryAttemptEntity> queue;
+
+  private final DistributionSummary batchSizeSummary;
+  private final Timer flushTimer;
+  private final Counter overflow;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  public DeliveryAttemptWriter(
+      DeliveryAttemptRepository repository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.delivery.attempts.write-behind.enabled:true}") boolean enabled,
+      @Value("${app.delivery.attempts.write-behind.max-batch-size:100}") int maxBatchSize,
+      @Value("${app.delivery.attempts.write-behind.max-wait:20ms}") Duration maxWait,
+      @Value("${app.delivery.attempts.write-behind.queue-capacity:10000}") int queueCapacity,
+      @Value("${app.delivery.attempts.write-behind.max-block:1s}") Duration maxBlock) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.maxBatchSize = maxBatchSize;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.maxBlockNanos = maxBlock.toNanos();
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    Gauge.builder("webhook.delivery.attempts.queue_depth", queue, BlockingQueue::size)
+        .description("Delivery attempts waiting to be written")
+        .register(meterRegistry);
+    this.batchSizeSummary =
+        DistributionSummary.builder("webhook.delivery.attempts.batch_size")
+            .description("Delivery attempts inserted per write-behind transaction")
+            .register(meterRegistry);
+    this.flushTimer =
+        Timer.builder("webhook.delivery.attempts.flush")
+            .description("Duration of one write-behind batch insert")
+            .register(meterRegistry);
+    this.overflow =
+        Counter.builder("webhook.delivery.attempts.overflow")
+            .description("Attempts written inline because the write-behind queue stayed full")
+            .register(meterRegistry);
+  }
+
+  @PostConstruct
+  void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    writer = new Thread(this::runLoop, "delivery-attempt-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    if (writer == null) {
+      return;
+    }
+    // The loop drains the queue before exiting; later attempts are written inline.
+    running = false;
+    writer.join(TimeUnit.SECONDS.toMillis(10));
+    // Attempts queued while the loop was exiting.
+    List<DeliveryAttemptEntity> rest = new ArrayList<>();
+    queue.drainTo(rest);
+    rest.forEach(repository::save);
+  }
+
+  /** Never throws: losing one history row must not keep the job's outcome from committing. */
+  public void write(DeliveryAttemptEntity attempt) {
+    if (running) {
+      try {
+        // Waiting for space slows delivery threads down to what the database can absorb.
+        if (queue.offer(attempt, maxBlockNanos, TimeUnit.NANOSECONDS)) {
+          return;
+        }
+        overflow.increment();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    try {
+      repository.save(attempt);
+    } catch (RuntimeException e) {
+      log.error("Dropping delivery attempt for job {}", attempt.getDeliveryJobId(), e);
+    }
+  }
+
+  private void runLoop() {
+    List<DeliveryAttemptEntity> batch = new ArrayList<>(maxBatchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        DeliveryAttemptEntity first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+
+        // Wait briefly for more attempts so a quiet period still flushes promptly.
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+          queue.drainTo(batch, maxBatchSize - batch.size());
+          long remaining = deadline - System.nanoTime();
+          if (batch.size() >= maxBatchSize || remaining <= 0) {
+            break;
+          }
+          DeliveryAttemptEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (RuntimeException e) {
+        log.error("Unexpected error in delivery attempt writer", e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<DeliveryAttemptEntity> batch) {
+    batchSizeSummary.record(batch.size());
+    try {
+      flushTimer.record(
+          () -> transactionTemplate.executeWithoutResult(s -> repository.saveAll(batch)));
+    } catch (RuntimeException e) {
+      // One bad row must not lose its neighbours: retry each attempt on its own.
+      log.warn("Writing {} delivery attempts failed, retrying individually", batch.size(), e);
+      for (DeliveryAttemptEntity attempt : batch) {
+        try {
+          repository.save(attempt);
+        } catch (RuntimeException single) {
+          log.error("Dropping delivery attempt for job {}", attempt.getDeliveryJobId(), single);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package com.webhook.platform.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts one asynchronous delivery per endpoint and returns only once every one of them has
+ * completed, results recorded. A delivery that fails does not cancel its siblings; the first
+ * failure is rethrown afterwards so the message is redelivered (endpoints that already succeeded
+ * are skipped by the dedupe table).
+ *
+ * <p>HTTP waits hold no thread. The executor only runs the blocking bookkeeping around each call
+ * (job checks, recording the attempt), and a node-wide semaphore caps deliveries in flight. In
+ * {@code virtual} mode (Java 21+) that bookkeeping gets a virtual thread per task instead of a
+ * bounded pool.
+ *
+ * <p>Only starting a delivery is throttled by running it on the caller. Continuations handed to
+ * {@link #executor()} are always queued: the completing thread is an HTTP client I/O thread, and
+ * running blocking work there would stall every connection it serves. Their queue is bounded in
+ * practice by max-in-flight, since each delivery has at most one continuation pending.
+ */
+@Component
+@Slf4j
+public class DeliveryFanout implements AutoCloseable {
+
+  private final ExecutorService executor;
+  private final Executor intake;
+  private final Semaphore inFlightLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Timer fanoutTimer;
+
+  public DeliveryFanout(
+      MeterRegistry meterRegistry,
+      @Value("${app.delivery.threads:platform}") String threads,
+      @Value("${app.delivery.fanout.pool-size:32}") int poolSize,
+      @Value("${app.delivery.fanout.queue-capacity:256}") int queueCapacity,
+      @Value("${app.delivery.fanout.max-in-flight:10000}") int maxInFlight) {
+    if ("virtual".equalsIgnoreCase(threads)) {
+      this.executor = newVirtualThreadExecutor();
+      this.intake = executor;
+    } else {
+      ThreadPoolExecutor pool = newPlatformThreadPool(poolSize);
+      this.executor = pool;
+      // Caller-runs for new deliveries only: once queueCapacity tasks wait, the submitting
+      // (consumer) thread does the work itself, which throttles intake.
+      this.intake =
+          task -> {
+            if (pool.getQueue().size() >= queueCapacity) {
+              task.run();
+            } else {
+              pool.execute(task);
+            }
+          };
+    }
+    this.inFlightLimit = new Semaphore(maxInFlight);
+    log.info("Delivery fan-out uses {} threads, at most {} in flight", threads, maxInFlight);
+
+    this.fanoutTimer =
+        Timer.builder("webhook.delivery.fanout")
+            .description("Time to deliver one event to all of its endpoints")
+            .register(meterRegistry);
+    Gauge.builder("webhook.delivery.in_flight", inFlight, AtomicInteger::get)
+        .description("Endpoint deliveries currently running")
+        .register(meterRegistry);
+  }
+
+  // For continuations that block (repository calls). Never runs a task on the calling thread, so
+  // they cannot end up on HTTP client threads.
+  public Executor executor() {
+    return executor;
+  }
+
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  public <T> void forEach(List<T> items, Function<T, CompletableFuture<?>> delivery) {
+    fanoutTimer.record(() -> awaitAll(startAll(items, delivery)));
+  }
+
+  private <T> List<CompletableFuture<?>> startAll(
+      List<T> items, Function<T, CompletableFuture<?>> delivery) {
+    List<CompletableFuture<?>> futures = new ArrayList<>(items.size());
+    for (T item : items) {
+      acquireSlot();
+      inFlight.incrementAndGet();
+      // The slot is given back in the stage that forEach waits on, so it is free on return.
+      CompletableFuture<?> future =
+          CompletableFuture.supplyAsync(() -> delivery.apply(item), intake)
+              .thenCompose(Function.identity())
+              .whenComplete(
+                  (result, error) -> {
+                    inFlight.decrementAndGet();
+                    inFlightLimit.release();
+                  });
+      futures.add(future);
+    }
+    return futures;
+  }
+
+  private static void awaitAll(List<CompletableFuture<?>> futures) {
+    RuntimeException failure = null;
+    for (CompletableFuture<?> future : futures) {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        RuntimeException cause =
+            e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e);
+        if (failure == null) {
+          failure = cause;
+        } else {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void acquireSlot() {
+    try {
+      inFlightLimit.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a delivery slot", e);
+    }
+  }
+
+  // Unbounded queue: continuations must never be rejected onto the completing thread.
+  private static ThreadPoolExecutor newPlatformThreadPool(int poolSize) {
+    AtomicInteger threads = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        60,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        r -> {
+          Thread t = new Thread(r, "delivery-fanout-" + threads.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        });
+  }
+
+  // Looked up reflectively so the code still compiles and runs with platform threads on Java 17.
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "app.delivery.threads=virtual requires Java 21+, running on "
+              + Runtime.version().feature(),
+          e);
+    }
+  }
+
+  /** Stops taking work and waits briefly for running bookkeeping to finish. */
+  @PreDestroy
+  @Override
+  public void close() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+}
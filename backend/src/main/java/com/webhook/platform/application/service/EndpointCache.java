@@ -0,0 +1,148 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.repository.WebhookEndpointRepository;
+import com.webhook.platform.domain.entity.WebhookEndpointEntity;
+import com.webhook.platform.domain.model.EndpointStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Near-cache of endpoint configuration for the delivery path, so consuming an event does not cost a
+ * query per message. Entries expire after the TTL and the least recently used ones are evicted
+ * beyond max-entries. Changes made through {@link WebhookEndpointService} invalidate the tenant on
+ * commit; other nodes are told through the endpoint_changed notification (V11 trigger).
+ *
+ * <p>Cached entities are shared by concurrent deliveries and are not attached to a persistence
+ * context, so they are treated as read-only. Circuit-breaker state lives in {@link
+ * EndpointCircuitBreakers}, which writes transitions with a targeted UPDATE.
+ */
+@Component
+public class EndpointCache {
+
+  private final WebhookEndpointRepository repository;
+  private final boolean enabled;
+  private final long ttlNanos;
+  private final Map<UUID, Entry<List<WebhookEndpointEntity>>> activeByTenant;
+  private final Map<UUID, Entry<WebhookEndpointEntity>> byId;
+  // Bumped on every invalidation; a load that started before one is not stored.
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Counter hits;
+  private final Counter misses;
+
+  public EndpointCache(
+      WebhookEndpointRepository repository,
+      MeterRegistry meterRegistry,
+      @Value("${app.endpoints.cache.enabled:true}") boolean enabled,
+      @Value("${app.endpoints.cache.max-entries:10000}") int maxEntries,
+      @Value("${app.endpoints.cache.ttl:5m}") Duration ttl) {
+    this.repository = repository;
+    this.enabled = enabled;
+    this.ttlNanos = ttl.toNanos();
+    this.activeByTenant = lruMap(maxEntries);
+    this.byId = lruMap(maxEntries);
+
+    this.hits = meterRegistry.counter("webhook.endpoint_cache.requests", "result", "hit");
+    this.misses = meterRegistry.counter("webhook.endpoint_cache.requests", "result", "miss");
+    Gauge.builder("webhook.endpoint_cache.size", this, c -> c.size())
+        .description("Tenants and endpoints currently cached")
+        .register(meterRegistry);
+  }
+
+  public List<WebhookEndpointEntity> activeEndpoints(UUID tenantId) {
+    return lookup(
+        activeByTenant,
+        tenantId,
+        () -> repository.findByTenantIdAndStatus(tenantId, EndpointStatus.ACTIVE));
+  }
+
+  public Optional<WebhookEndpointEntity> endpoint(UUID id) {
+    return Optional.ofNullable(lookup(byId, id, () -> repository.findById(id).orElse(null)));
+  }
+
+  public void invalidateTenant(UUID tenantId) {
+    generation.incrementAndGet();
+    synchronized (this) {
+      activeByTenant.remove(tenantId);
+      byId.values().removeIf(entry -> tenantId.equals(entry.value().getTenantId()));
+    }
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    synchronized (this) {
+      activeByTenant.clear();
+      byId.clear();
+    }
+  }
+
+  // Invalidating before commit would let a concurrent load re-cache the old row.
+  public void invalidateTenantAfterCommit(UUID tenantId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidateTenant(tenantId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            invalidateTenant(tenantId);
+          }
+        });
+  }
+
+  private <T> T lookup(Map<UUID, Entry<T>> map, UUID key, Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    long now = System.nanoTime();
+    synchronized (this) {
+      Entry<T> entry = map.get(key);
+      if (entry != null && now - entry.loadedAt() < ttlNanos) {
+        hits.increment();
+        return entry.value();
+      }
+    }
+    misses.increment();
+
+    // Loaded outside the lock so a slow query does not stall hits for other tenants.
+    long loadGeneration = generation.get();
+    T value = loader.get();
+    if (value != null) {
+      synchronized (this) {
+        if (generation.get() == loadGeneration) {
+          map.put(key, new Entry<>(value, now));
+        }
+      }
+    }
+    return value;
+  }
+
+  private synchronized int size() {
+    return activeByTenant.size() + byId.size();
+  }
+
+  private static <T> Map<UUID, Entry<T>> lruMap(int maxEntries) {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, Entry<T>> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  private record Entry<T>(T value, long loadedAt) {}
+}
@@ -0,0 +1,196 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.repository.WebhookEndpointRepository;
+import com.webhook.platform.domain.entity.WebhookEndpointEntity;
+import com.webhook.platform.domain.policy.CircuitBreaker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds a {@link CircuitBreaker} per endpoint in memory, so failures cost no database write. Only
+ * transitions (open, close) are persisted, asynchronously, to the endpoint's circuit columns. The
+ * V11 trigger then refreshes other nodes' endpoint caches, and an open deadline they have not seen
+ * yet is adopted on their next delivery to that endpoint.
+ */
+@Component
+@Slf4j
+public class EndpointCircuitBreakers {
+
+  /** Admission outcome; retryAt is set when the delivery has to wait. */
+  public record Decision(boolean admitted, LocalDateTime retryAt) {}
+
+  private final WebhookEndpointRepository endpointRepository;
+  private final MeterRegistry meterRegistry;
+  private final int halfOpenTrials;
+  private final Duration openDuration;
+  private final Duration maxOpenDuration;
+  private final Duration halfOpenRetryDelay;
+  private final Map<UUID, Holder> breakers = new ConcurrentHashMap<>();
+  // One thread keeps an endpoint's transitions in order.
+  private final ExecutorService persister =
+      Executors.newSingleThreadExecutor(
+          r -> {
+            Thread thread = new Thread(r, "circuit-breaker-persist");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  public EndpointCircuitBreakers(
+      WebhookEndpointRepository endpointRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.delivery.circuit-breaker.half-open-trials:1}") int halfOpenTrials,
+      @Value("${app.delivery.circuit-breaker.open-duration:5m}") Duration openDuration,
+      @Value("${app.delivery.circuit-breaker.max-open-duration:1h}") Duration maxOpenDuration,
+      @Value("${app.delivery.circuit-breaker.half-open-retry-delay:10s}")
+          Duration halfOpenRetryDelay) {
+    this.endpointRepository = endpointRepository;
+    this.meterRegistry = meterRegistry;
+    this.halfOpenTrials = halfOpenTrials;
+    this.openDuration = openDuration;
+    this.maxOpenDuration = maxOpenDuration;
+    this.halfOpenRetryDelay = halfOpenRetryDelay;
+
+    for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+      Gauge.builder("webhook.circuit_breaker.endpoints", breakers, b -> count(b, state))
+          .description("Endpoints by circuit-breaker state on this node")
+          .tag("state", state.name().toLowerCase())
+          .register(meterRegistry);
+    }
+  }
+
+  public Decision tryAcquire(WebhookEndpointEntity endpoint) {
+    CircuitBreaker breaker = breaker(endpoint);
+    long now = System.currentTimeMillis();
+    if (breaker.tryAcquire(now)) {
+      return new Decision(true, null);
+    }
+    LocalDateTime retryAt =
+        breaker.state() == CircuitBreaker.State.OPEN
+            ? toLocalDateTime(breaker.openUntilMs())
+            : LocalDateTime.now().plus(halfOpenRetryDelay);
+    return new Decision(false, retryAt);
+  }
+
+  public void cancel(WebhookEndpointEntity endpoint) {
+    breaker(endpoint).cancel();
+  }
+
+  public void onSuccess(WebhookEndpointEntity endpoint) {
+    Holder holder = holder(endpoint);
+    if (holder.breaker.onSuccess()) {
+      log.info("Circuit Breaker CLOSED for endpoint {}", endpoint.getId());
+      persist(endpoint.getId(), 0, null, null);
+    }
+  }
+
+  public void onFailure(WebhookEndpointEntity endpoint, String lastError) {
+    Holder holder = holder(endpoint);
+    CircuitBreaker breaker = holder.breaker;
+    if (!breaker.onFailure(System.currentTimeMillis())) {
+      return;
+    }
+    LocalDateTime pausedUntil = toLocalDateTime(breaker.openUntilMs());
+    // Remembered so the echo of our own write is not adopted as a foreign open.
+    holder.seenUntil = pausedUntil;
+    int failures = breaker.consecutiveFailures();
+    log.error(
+        "Circuit Breaker OPEN for endpoint {}. Paused until {}", endpoint.getId(), pausedUntil);
+    meterRegistry
+        .counter("webhook.circuit_breaker.open", "endpoint", endpoint.getId().toString())
+        .increment();
+    persist(
+        endpoint.getId(),
+        failures,
+        pausedUntil,
+        "Circuit Breaker Open: " + failures + " consecutive failures. Last error: " + lastError);
+  }
+
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    persister.shutdown();
+    persister.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  private CircuitBreaker breaker(WebhookEndpointEntity endpoint) {
+    return holder(endpoint).breaker;
+  }
+
+  private Holder holder(WebhookEndpointEntity endpoint) {
+    int threshold = endpoint.getCircuitBreakerThreshold();
+    Holder holder =
+        breakers.compute(
+            endpoint.getId(),
+            (id, existing) ->
+                existing != null && existing.threshold == threshold
+                    ? existing
+                    : new Holder(
+                        threshold,
+                        new CircuitBreaker(
+                            threshold,
+                            halfOpenTrials,
+                            openDuration.toMillis(),
+                            maxOpenDuration.toMillis())));
+
+    // The entity carries the persisted state, which may come from another node or a restart.
+    LocalDateTime persistedUntil = endpoint.getNextAvailableAt();
+    if (persistedUntil != null && !persistedUntil.equals(holder.seenUntil)) {
+      holder.seenUntil = persistedUntil;
+      if (persistedUntil.isAfter(LocalDateTime.now())) {
+        holder.breaker.openUntil(toEpochMs(persistedUntil));
+      }
+    }
+    return holder;
+  }
+
+  private void persist(UUID endpointId, int failures, LocalDateTime until, String reason) {
+    persister.execute(
+        () -> {
+          try {
+            endpointRepository.updateCircuitState(endpointId, failures, until, reason);
+          } catch (RuntimeException e) {
+            // Only other nodes and restarts rely on the stored state; this node keeps going.
+            log.warn("Failed to persist circuit-breaker state for endpoint {}", endpointId, e);
+          }
+        });
+  }
+
+  private static int count(Map<UUID, Holder> breakers, CircuitBreaker.State state) {
+    return (int) breakers.values().stream().filter(h -> h.breaker.state() == state).count();
+  }
+
+  // Millisecond precision survives the TIMESTAMP round trip, so seenUntil compares equal.
+  private static LocalDateTime toLocalDateTime(long epochMs) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault())
+        .truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  private static long toEpochMs(LocalDateTime time) {
+    return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private static final class Holder {
+    private final int threshold;
+    private final CircuitBreaker breaker;
+    private volatile LocalDateTime seenUntil;
+
+    private Holder(int threshold, CircuitBreaker breaker) {
+      this.threshold = threshold;
+      this.breaker = breaker;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.repository.EndpointDeliveryLeaseRepository;
+import com.webhook.platform.domain.entity.EndpointDeliveryLeaseId;
+import com.webhook.platform.domain.entity.WebhookEndpointEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Enforces an endpoint's concurrencyLimit across the cluster. Each endpoint has limit slots in
+ * endpoint_delivery_leases; a node leases slots and then admits deliveries against them locally, so
+ * a busy endpoint costs no query per delivery. Slots are renewed in bulk while held, handed back
+ * once the endpoint has been idle on this node for a while, and expire on their own if the node
+ * dies.
+ */
+@Component
+@Slf4j
+public class EndpointConcurrencyLimiter {
+
+  private final EndpointDeliveryLeaseRepository leaseRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final String owner;
+  private final Duration leaseTtl;
+  private final long idleReleaseNanos;
+  private final long busyBackoffNanos;
+  private final Map<UUID, EndpointSlots> endpoints = new ConcurrentHashMap<>();
+  private final Counter rejected;
+
+  public EndpointConcurrencyLimiter(
+      EndpointDeliveryLeaseRepository leaseRepository,
+      PlatformTransactionManager transactionManager,
+      OutboxShardCoordinator shardCoordinator,
+      MeterRegistry meterRegistry,
+      @Value("${app.delivery.leases.ttl:30s}") Duration leaseTtl,
+      @Value("${app.delivery.leases.idle-release:10s}") Duration idleRelease,
+      @Value("${app.delivery.leases.busy-backoff:500ms}") Duration busyBackoff) {
+    this.leaseRepository = leaseRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // Same node identity as the outbox shard leases.
+    this.owner = shardCoordinator.nodeId();
+    this.leaseTtl = leaseTtl;
+    this.idleReleaseNanos = idleRelease.toNanos();
+    this.busyBackoffNanos = busyBackoff.toNanos();
+
+    this.rejected = meterRegistry.counter("webhook.delivery.concurrency.rejected");
+    Gauge.builder("webhook.delivery.concurrency.leased_slots", this, l -> l.leasedSlots())
+        .description("Endpoint concurrency slots currently leased by this node")
+        .register(meterRegistry);
+  }
+
+  /** Admits one delivery to the endpoint; every true must be paired with {@link #release}. */
+  public boolean tryAcquire(WebhookEndpointEntity endpoint) {
+    EndpointSlots slots = endpoints.computeIfAbsent(endpoint.getId(), id -> new EndpointSlots());
+    int limit = endpoint.getConcurrencyLimit();
+    slots.lock.lock();
+    try {
+      long now = System.nanoTime();
+      slots.lastUsed = now;
+      if (slots.inUse < slots.usable(limit)) {
+        slots.inUse++;
+        return true;
+      }
+      if (now < slots.retryLeaseAt) {
+        rejected.increment();
+        return false;
+      }
+    } finally {
+      slots.lock.unlock();
+    }
+
+    // Leasing goes to the database, so it runs without the lock: deliveries to this endpoint on
+    // slots already held are not held up meanwhile.
+    Optional<Integer> leased = leaseSlot(endpoint.getId(), slots, limit);
+    slots.lock.lock();
+    try {
+      if (leased.isPresent()) {
+        slots.held.put(leased.get(), System.nanoTime());
+        slots.inUse++;
+        return true;
+      }
+      // Every slot is busy elsewhere: do not ask the database again for every message.
+      slots.retryLeaseAt = System.nanoTime() + busyBackoffNanos;
+      rejected.increment();
+      return false;
+    } finally {
+      slots.lock.unlock();
+    }
+  }
+
+  public void release(UUID endpointId) {
+    EndpointSlots slots = endpoints.get(endpointId);
+    if (slots == null) {
+      return;
+    }
+    slots.lock.lock();
+    try {
+      slots.inUse = Math.max(0, slots.inUse - 1);
+      slots.lastUsed = System.nanoTime();
+      // A slot just freed up here, so a waiting delivery may lease again.
+      slots.retryLeaseAt = 0;
+    } finally {
+      slots.lock.unlock();
+    }
+  }
+
+  /** Extends held leases, drops ones lost to expiry and hands back slots of idle endpoints. */
+  public void renewLeases() {
+    LocalDateTime now = LocalDateTime.now();
+    leaseRepository.renew(owner, now, now.plus(leaseTtl));
+    long snapshotNanos = System.nanoTime();
+    Set<EndpointDeliveryLeaseId> held = new HashSet<>(leaseRepository.findHeld(owner, now));
+
+    long nowNanos = System.nanoTime();
+    endpoints.forEach(
+        (endpointId, slots) -> {
+          List<Integer> idle = List.of();
+          slots.lock.lock();
+          try {
+            // Slots leased after the snapshot are missing from it but not lost.
+            if (slots
+                .held
+                .entrySet()
+                .removeIf(
+                    slot ->
+                        slot.getValue() - snapshotNanos < 0
+                            && !held.contains(
+                                new EndpointDeliveryLeaseId(endpointId, slot.getKey())))) {
+              log.warn("Lost expired delivery leases for endpoint {}", endpointId);
+            }
+            if (slots.inUse == 0 && nowNanos - slots.lastUsed > idleReleaseNanos) {
+              idle = new ArrayList<>(slots.held.keySet());
+              slots.held.clear();
+            }
+          } finally {
+            slots.lock.unlock();
+          }
+          // Still ours in the table until released, so no delivery here can lease them meanwhile.
+          idle.forEach(slot -> leaseRepository.release(endpointId, slot, owner));
+        });
+  }
+
+  @PreDestroy
+  void releaseAll() {
+    try {
+      leaseRepository.releaseAll(owner);
+    } catch (RuntimeException e) {
+      // Leases expire on their own; this only frees the slots sooner.
+      log.warn("Failed to release delivery leases on shutdown", e);
+    }
+  }
+
+  // One transaction: lock the lowest free slot, skipping ones other nodes are claiming, and take
+  // it.
+  private Optional<Integer> leaseSlot(UUID endpointId, EndpointSlots slots, int limit) {
+    if (slots.rowsUpTo < limit) {
+      leaseRepository.insertSlots(endpointId, limit);
+      slots.rowsUpTo = limit;
+    }
+
+    return transactionTemplate.execute(
+        status -> {
+          LocalDateTime now = LocalDateTime.now();
+          Optional<Integer> slot = leaseRepository.findFreeSlotForUpdate(endpointId, limit, now);
+          slot.ifPresent(
+              s -> leaseRepository.acquire(endpointId, s, owner, now, now.plus(leaseTtl)));
+          return slot;
+        });
+  }
+
+  private int leasedSlots() {
+    return endpoints.values().stream().mapToInt(slots -> slots.held.size()).sum();
+  }
+
+  private static final class EndpointSlots {
+    private final ReentrantLock lock = new ReentrantLock();
+    // Slot -> System.nanoTime() when it was leased.
+    private final Map<Integer, Long> held = new ConcurrentHashMap<>();
+    private int inUse;
+    private volatile int rowsUpTo;
+    private long lastUsed;
+    private long retryLeaseAt;
+
+    // Slots above a lowered limit stay leased until idle but no longer admit deliveries.
+    int usable(int limit) {
+      return (int) held.keySet().stream().filter(slot -> slot < limit).count();
+    }
+  }
+}
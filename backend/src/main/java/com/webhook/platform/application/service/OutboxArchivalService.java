@@ -0,0 +1,174 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.port.out.OutboxArchive;
+import com.webhook.platform.application.port.out.OutboxArchive.ArchivedEvent;
+import com.webhook.platform.application.port.out.OutboxArchive.ArchivedJob;
+import com.webhook.platform.application.repository.DeadLetterRepository;
+import com.webhook.platform.application.repository.DeliveredDedupeRepository;
+import com.webhook.platform.application.repository.DeliveryAttemptRepository;
+import com.webhook.platform.application.repository.DeliveryJobRepository;
+import com.webhook.platform.application.repository.OutboxEventRepository;
+import com.webhook.platform.domain.entity.DeadLetterEntity;
+import com.webhook.platform.domain.entity.DeliveryAttemptEntity;
+import com.webhook.platform.domain.entity.DeliveryJobEntity;
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves finished events (and their jobs, attempts, dead letters and dedupe rows) out of the
+ * database into the {@link OutboxArchive}. Each chunk is locked, written durably and deleted in one
+ * transaction, so a crash can at worst archive a chunk twice, never lose it. Chunks are small and
+ * spaced out, and a run stops early while the dispatcher has a backlog.
+ */
+@Service
+@Slf4j
+public class OutboxArchivalService {
+
+  private final OutboxEventRepository eventRepository;
+  private final DeliveryJobRepository jobRepository;
+  private final DeliveryAttemptRepository attemptRepository;
+  private final DeadLetterRepository deadLetterRepository;
+  private final DeliveredDedupeRepository dedupeRepository;
+  private final OutboxArchive archive;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter archivedCounter;
+
+  private final Duration minAge;
+  private final int chunkSize;
+  private final int maxChunksPerRun;
+  private final Duration pauseBetweenChunks;
+  private final long maxPendingBacklog;
+
+  public OutboxArchivalService(
+      OutboxEventRepository eventRepository,
+      DeliveryJobRepository jobRepository,
+      DeliveryAttemptRepository attemptRepository,
+      DeadLetterRepository deadLetterRepository,
+      DeliveredDedupeRepository dedupeRepository,
+      OutboxArchive archive,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.outbox.archive.min-age:3d}") Duration minAge,
+      @Value("${app.outbox.archive.chunk-size:500}") int chunkSize,
+      @Value("${app.outbox.archive.max-chunks-per-run:200}") int maxChunksPerRun,
+      @Value("${app.outbox.archive.pause-between-chunks:200ms}") Duration pauseBetweenChunks,
+      @Value("${app.outbox.archive.max-pending-backlog:1000}") long maxPendingBacklog) {
+    this.eventRepository = eventRepository;
+    this.jobRepository = jobRepository;
+    this.attemptRepository = attemptRepository;
+    this.deadLetterRepository = deadLetterRepository;
+    this.dedupeRepository = dedupeRepository;
+    this.archive = archive;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.archivedCounter = meterRegistry.counter("webhook.outbox.archived");
+    this.minAge = minAge;
+    this.chunkSize = chunkSize;
+    this.maxChunksPerRun = maxChunksPerRun;
+    this.pauseBetweenChunks = pauseBetweenChunks;
+    this.maxPendingBacklog = maxPendingBacklog;
+  }
+
+  /**
+   * Returns the number of events archived. {@code pendingBacklog} reports the dispatcher's PENDING
+   * backlog; it is read before every chunk, so it should be cheap (a cached count, not a query).
+   */
+  public int archiveFinishedEvents(LongSupplier pendingBacklog) {
+    LocalDateTime startedAt = LocalDateTime.now();
+    LocalDateTime cutoff = startedAt.minus(minAge);
+    int total = 0;
+
+    try (OutboxArchive.Writer writer = archive.open(startedAt)) {
+      for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+        if (maxPendingBacklog >= 0 && pendingBacklog.getAsLong() > maxPendingBacklog) {
+          log.info("Outbox dispatch is backlogged; pausing archival after {} events", total);
+          break;
+        }
+        Integer archived = transactionTemplate.execute(status -> archiveChunk(writer, cutoff));
+        if (archived == null || archived == 0) {
+          break;
+        }
+        total += archived;
+        archivedCounter.increment(archived);
+        if (archived < chunkSize || !pause()) {
+          break;
+        }
+      }
+      if (total > 0) {
+        log.info("Archived {} outbox events to {}", total, writer.location());
+      }
+    }
+    return total;
+  }
+
+  private int archiveChunk(OutboxArchive.Writer writer, LocalDateTime cutoff) {
+    List<OutboxEventEntity> events =
+        eventRepository.findArchivableForUpdateSkipLocked(cutoff, chunkSize);
+    if (events.isEmpty()) {
+      return 0;
+    }
+    List<UUID> eventIds = events.stream().map(OutboxEventEntity::getId).toList();
+
+    List<DeliveryJobEntity> jobs = jobRepository.findByOutboxEventIdIn(eventIds);
+    List<UUID> jobIds = jobs.stream().map(DeliveryJobEntity::getId).toList();
+    Map<UUID, List<DeliveryAttemptEntity>> attempts =
+        jobIds.isEmpty()
+            ? Map.of()
+            : attemptRepository.findByDeliveryJobIdIn(jobIds).stream()
+                .collect(Collectors.groupingBy(DeliveryAttemptEntity::getDeliveryJobId));
+    Map<UUID, List<DeadLetterEntity>> deadLetters =
+        jobIds.isEmpty()
+            ? Map.of()
+            : deadLetterRepository.findByDeliveryJobIdIn(jobIds).stream()
+                .collect(Collectors.groupingBy(DeadLetterEntity::getDeliveryJobId));
+    Map<UUID, List<ArchivedJob>> jobsByEvent =
+        jobs.stream()
+            .collect(
+                Collectors.groupingBy(
+                    DeliveryJobEntity::getOutboxEventId,
+                    Collectors.mapping(
+                        job ->
+                            new ArchivedJob(
+                                job,
+                                attempts.getOrDefault(job.getId(), List.of()),
+                                deadLetters.getOrDefault(job.getId(), List.of())),
+                        Collectors.toList())));
+
+    // Written (and synced) before the deletes; if the commit fails the chunk is archived again.
+    writer.append(
+        events.stream()
+            .map(e -> new ArchivedEvent(e, jobsByEvent.getOrDefault(e.getId(), List.of())))
+            .toList());
+
+    if (!jobIds.isEmpty()) {
+      attemptRepository.deleteByJobIds(jobIds);
+      deadLetterRepository.deleteByJobIds(jobIds);
+      jobRepository.deleteAllByIdInBatch(jobIds);
+    }
+    dedupeRepository.deleteByEventIds(eventIds);
+    eventRepository.deleteArchived(eventIds.toArray(UUID[]::new), cutoff);
+    return events.size();
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(pauseBetweenChunks.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
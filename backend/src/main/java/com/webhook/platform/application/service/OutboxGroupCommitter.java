@@ -0,0 +1,180 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.repository.OutboxEventRepository;
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Coalesces concurrent single-event ingests into one transaction (group commit). Callers block on
+ * the returned future, which completes only after the shared transaction has committed.
+ */
+@Component
+@Slf4j
+public class OutboxGroupCommitter {
+
+  private final OutboxEventRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int maxBatchSize;
+  private final long maxWaitNanos;
+  private final BlockingQueue<PendingEvent> queue;
+
+  private final DistributionSummary batchSizeSummary;
+  private final Timer waitTimer;
+  private final Timer flushTimer;
+
+  private volatile boolean running;
+  private Thread flusher;
+
+  public OutboxGroupCommitter(
+      OutboxEventRepository repository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.events.group-commit.enabled:false}") boolean enabled,
+      @Value("${app.events.group-commit.max-batch-size:100}") int maxBatchSize,
+      @Value("${app.events.group-commit.max-wait:5ms}") Duration maxWait,
+      @Value("${app.events.group-commit.queue-capacity:10000}") int queueCapacity) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.maxBatchSize = maxBatchSize;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    this.batchSizeSummary =
+        DistributionSummary.builder("webhook.event.group_commit.batch_size")
+            .description("Events committed per group-commit transaction")
+            .register(meterRegistry);
+    this.waitTimer =
+        Timer.builder("webhook.event.group_commit.wait")
+            .description("Time an ingest waited in the queue before its group was flushed")
+            .register(meterRegistry);
+    this.flushTimer =
+        Timer.builder("webhook.event.group_commit.flush")
+            .description("Duration of the shared group-commit transaction")
+            .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @PostConstruct
+  void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    flusher = new Thread(this::runLoop, "outbox-group-commit");
+    flusher.setDaemon(true);
+    flusher.start();
+    log.info(
+        "Outbox group commit enabled (maxBatchSize={}, maxWait={}us)",
+        maxBatchSize,
+        TimeUnit.NANOSECONDS.toMicros(maxWaitNanos));
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    if (flusher == null) {
+      return;
+    }
+    // The loop keeps draining until the queue is empty, so accepted callers are not dropped.
+    running = false;
+    flusher.join(TimeUnit.SECONDS.toMillis(10));
+  }
+
+  public CompletableFuture<OutboxEventEntity> submit(OutboxEventEntity event) {
+    if (!running) {
+      throw new IllegalStateException("Group commit is not running");
+    }
+    PendingEvent pending = new PendingEvent(event, System.nanoTime(), new CompletableFuture<>());
+    try {
+      // Blocking put applies backpressure to ingest threads when the flusher falls behind.
+      queue.put(pending);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while queueing event for group commit", e);
+    }
+    return pending.result();
+  }
+
+  private void runLoop() {
+    List<PendingEvent> batch = new ArrayList<>(maxBatchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+
+        long deadline = first.enqueuedAt() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          PendingEvent next =
+              remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (RuntimeException e) {
+        log.error("Unexpected error in group commit loop", e);
+      } finally {
+        batch.forEach(p -> p.result().completeExceptionally(new IllegalStateException("Aborted")));
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<PendingEvent> batch) {
+    long flushStart = System.nanoTime();
+    batch.forEach(p -> waitTimer.record(flushStart - p.enqueuedAt(), TimeUnit.NANOSECONDS));
+    batchSizeSummary.record(batch.size());
+
+    List<OutboxEventEntity> events = batch.stream().map(PendingEvent::event).toList();
+    try {
+      List<OutboxEventEntity> saved =
+          flushTimer.recordCallable(
+              () -> transactionTemplate.execute(status -> repository.saveAll(events)));
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).result().complete(saved.get(i));
+      }
+    } catch (Exception e) {
+      // One bad row must not fail its neighbours: retry each event in its own transaction.
+      log.warn("Group commit of {} events failed, retrying individually", batch.size(), e);
+      for (PendingEvent pending : batch) {
+        try {
+          pending.result().complete(repository.save(pending.event()));
+        } catch (RuntimeException single) {
+          pending.result().completeExceptionally(single);
+        }
+      }
+    }
+  }
+
+  private record PendingEvent(
+      OutboxEventEntity event, long enqueuedAt, CompletableFuture<OutboxEventEntity> result) {}
+}
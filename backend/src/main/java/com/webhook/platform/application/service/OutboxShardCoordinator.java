@@ -0,0 +1,164 @@
+package com.webhook.platform.application.service;
+
+import com.webhook.platform.application.repository.DispatchNodeRepository;
+import com.webhook.platform.application.repository.OutboxShardLeaseRepository;
+import com.webhook.platform.domain.entity.DispatchNodeEntity;
+import com.webhook.platform.domain.entity.OutboxShardLeaseEntity;
+import com.webhook.platform.domain.policy.OutboxSharding;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits outbox shards between live dispatcher nodes. Every node heartbeats into
+ * outbox_dispatch_nodes, derives the same assignment from the sorted list of live nodes (shard s
+ * goes to node s mod n) and holds a time-bound lease on each of its shards. A node that joins or
+ * dies changes n, so every node converges on the new assignment within one rebalance interval plus,
+ * for a dead node, the lease TTL.
+ *
+ * <p>Leases only decide who polls which rows; FOR UPDATE SKIP LOCKED still guards each row, so a
+ * brief overlap during a handover cannot publish an event twice.
+ */
+@Component
+@Slf4j
+public class OutboxShardCoordinator {
+
+  private final OutboxShardLeaseRepository leaseRepository;
+  private final DispatchNodeRepository nodeRepository;
+  private final OutboxSharding sharding;
+  private final boolean enabled;
+  private final String nodeId;
+  private final Duration leaseTtl;
+
+  private volatile Set<Integer> ownedShards = Set.of();
+  private volatile boolean leaseRowsReady;
+
+  public OutboxShardCoordinator(
+      OutboxShardLeaseRepository leaseRepository,
+      DispatchNodeRepository nodeRepository,
+      OutboxSharding sharding,
+      @Value("${app.outbox.shards.enabled:false}") boolean enabled,
+      @Value("${app.outbox.shards.node-id:}") String nodeId,
+      @Value("${app.outbox.shards.lease-ttl:30s}") Duration leaseTtl) {
+    this.leaseRepository = leaseRepository;
+    this.nodeRepository = nodeRepository;
+    this.sharding = sharding;
+    this.enabled = enabled;
+    this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+    this.leaseTtl = leaseTtl;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public String nodeId() {
+    return nodeId;
+  }
+
+  public Set<Integer> ownedShards() {
+    return ownedShards;
+  }
+
+  public Set<Integer> rebalance() {
+    LocalDateTime now = LocalDateTime.now();
+    ensureLeaseRows();
+
+    nodeRepository.save(new DispatchNodeEntity(nodeId, now));
+    nodeRepository.deleteStale(now.minus(leaseTtl));
+    List<String> liveNodes =
+        nodeRepository.findByHeartbeatAtAfterOrderByNodeIdAsc(now.minus(leaseTtl)).stream()
+            .map(DispatchNodeEntity::getNodeId)
+            .toList();
+
+    int index = liveNodes.indexOf(nodeId);
+    int nodes = liveNodes.size();
+    Set<Integer> desired =
+        index < 0
+            ? Set.of()
+            : IntStream.range(0, sharding.shardCount())
+                .filter(shard -> shard % nodes == index)
+                .boxed()
+                .collect(Collectors.toSet());
+
+    // Hand shards back first so the new owner does not have to wait for the lease to expire.
+    for (Integer shard : ownedShards) {
+      if (!desired.contains(shard)) {
+        leaseRepository.release(shard, nodeId);
+      }
+    }
+
+    LocalDateTime until = now.plus(leaseTtl);
+    Set<Integer> acquired = new TreeSet<>();
+    for (Integer shard : desired) {
+      if (leaseRepository.acquire(shard, nodeId, now, until) == 1) {
+        acquired.add(shard);
+      }
+    }
+
+    if (!acquired.equals(ownedShards)) {
+      log.info(
+          "Node {} now owns outbox shards {} ({} live nodes)", nodeId, acquired, liveNodes.size());
+    }
+    ownedShards = Set.copyOf(acquired);
+    return ownedShards;
+  }
+
+  @PreDestroy
+  void leave() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      ownedShards.forEach(shard -> leaseRepository.release(shard, nodeId));
+      nodeRepository.deleteById(nodeId);
+    } catch (RuntimeException e) {
+      // Leases expire on their own; this only speeds up the handover.
+      log.warn("Failed to release outbox shard leases on shutdown", e);
+    }
+    ownedShards = Set.of();
+  }
+
+  private void ensureLeaseRows() {
+    if (leaseRowsReady) {
+      return;
+    }
+    Set<Integer> existing =
+        leaseRepository.findAll().stream()
+            .map(OutboxShardLeaseEntity::getShard)
+            .collect(Collectors.toSet());
+    for (int shard = 0; shard < sharding.shardCount(); shard++) {
+      if (!existing.contains(shard)) {
+        try {
+          leaseRepository.save(OutboxShardLeaseEntity.builder().shard(shard).build());
+        } catch (DataIntegrityViolationException e) {
+          // Another node inserted it concurrently.
+        }
+      }
+    }
+    leaseRowsReady = true;
+  }
+
+  private static String defaultNodeId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "node";
+    }
+    // Suffix keeps ids unique across restarts and co-located instances.
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+}
@@ -15,13 +15,13 @@ public class RateLimitService {
 
   private final Map<UUID, Bucket> cache = new ConcurrentHashMap<>();
 
-  @Value("${app.rate-limit.capacity:100}")
+  @Value("${app.rate-limit.capacity:2000}")
   private long capacity;
 
-  @Value("${app.rate-limit.refill-tokens:100}")
+  @Value("${app.rate-limit.refill-tokens:1000}")
   private long refillTokens;
 
-  @Value("${app.rate-limit.refill-duration:1m}")
+  @Value("${app.rate-limit.refill-duration:1s}")
   private Duration refillDuration;
 
   public Bucket resolveBucket(UUID tenantId) {
@@ -4,17 +4,19 @@ import com.webhook.platform.application.port.out.WebhookClient;
 import com.webhook.platform.application.repository.*;
 import com.webhook.platform.domain.entity.*;
 import com.webhook.platform.domain.model.DeliveryStatus;
-import com.webhook.platform.domain.model.EndpointStatus;
 import com.webhook.platform.domain.policy.RetryPolicy;
 import com.webhook.platform.domain.security.HmacUtils;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.annotation.Observed;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,21 +24,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WebhookDeliveryService {
 
-  private final WebhookEndpointRepository endpointRepository;
+  // How long a delivery turned away by the endpoint's concurrencyLimit waits before trying again.
+  private static final Duration CONCURRENCY_RETRY_DELAY = Duration.ofSeconds(10);
+
   private final DeliveryJobRepository jobRepository;
   private final DeliveryAttemptRepository attemptRepository;
+  private final DeliveryAttemptWriter attemptWriter;
   private final DeliveredDedupeRepository dedupeRepository;
+  private final DeliveredDedupeFilter dedupeFilter;
   private final OutboxEventRepository eventRepository;
   private final DeadLetterRepository deadLetterRepository;
   private final RetryPolicy retryPolicy;
   private final WebhookClient webhookClient;
   private final MeterRegistry meterRegistry;
+  private final DeliveryFanout fanout;
+  private final EndpointCache endpointCache;
+  private final EndpointConcurrencyLimiter concurrencyLimiter;
+  private final EndpointCircuitBreakers circuitBreakers;
+  private final TransactionTemplate transactionTemplate;
 
   public Page<DeliveryJobEntity> listJobs(UUID tenantId, DeliveryStatus status, Pageable pageable) {
     if (status != null) {
@@ -51,72 +63,94 @@ public class WebhookDeliveryService {
 
   public DeliveryJobEntity getJob(UUID id) {
     return jobRepository
-        .findById(id)
+        .findWithEndpointById(id)
         .orElseThrow(() -> new IllegalArgumentException("Delivery Job not found with id: " + id));
   }
 
-  @Observed(name = "webhook.delivery.process", contextualName = "process-event")
   public void processEvent(OutboxEventEntity event) {
+    processEvent(event, false);
+  }
+
+  /** {@code redelivered}: the broker delivered this message before, possibly to another node. */
+  @Observed(name = "webhook.delivery.process", contextualName = "process-event")
+  public void processEvent(OutboxEventEntity event, boolean redelivered) {
     log.info("Processing event {} for tenant {}", event.getId(), event.getTenantId());
 
-    List<WebhookEndpointEntity> endpoints =
-        endpointRepository.findByTenantIdAndStatus(event.getTenantId(), EndpointStatus.ACTIVE);
+    List<WebhookEndpointEntity> endpoints = endpointCache.activeEndpoints(event.getTenantId());
 
     if (endpoints.isEmpty()) {
       log.info("No active endpoints for tenant {}", event.getTenantId());
       return;
     }
 
-    for (WebhookEndpointEntity endpoint : endpoints) {
-      processEndpointDelivery(event, endpoint);
-    }
+    // Decoded once per event, and only when someone will receive it; every endpoint is sent
+    // (and signed over) the same bytes.
+    byte[] payload = event.payloadBytes();
+
+    // Endpoints are delivered concurrently so one slow subscriber does not hold up the rest.
+    // Returns only after every endpoint's result is saved, so the message is acked after that.
+    fanout.forEach(
+        endpoints, endpoint -> processEndpointDelivery(event, endpoint, payload, redelivered));
   }
 
-  private void processEndpointDelivery(OutboxEventEntity event, WebhookEndpointEntity endpoint) {
+  private CompletableFuture<Void> processEndpointDelivery(
+      OutboxEventEntity event,
+      WebhookEndpointEntity endpoint,
+      byte[] payload,
+      boolean redelivered) {
     // Enforce Idempotency: Deduplication table prevents double-delivery from dispatcher retries.
+    // The filter rules out nearly every pair without a lookup; only possible hits query the table.
     DeliveredDedupeId dedupeId = new DeliveredDedupeId(endpoint.getId(), event.getId());
-    if (dedupeRepository.existsById(dedupeId)) {
+    if (dedupeFilter.mightBeDelivered(endpoint.getId(), event, redelivered)
+        && dedupeRepository.existsById(dedupeId)) {
       log.info("Event {} already delivered to endpoint {}", event.getId(), endpoint.getId());
-      return;
+      return CompletableFuture.completedFuture(null);
     }
 
-    // Circuit Breaker: Fail fast if endpoint is unhealthy to protect system resources.
-    if (endpoint.getNextAvailableAt() != null
-        && endpoint.getNextAvailableAt().isAfter(LocalDateTime.now())) {
+    // Circuit Breaker: Fail fast if endpoint is unhealthy to protect system resources. While
+    // half-open only a few trial deliveries get through.
+    EndpointCircuitBreakers.Decision circuit = circuitBreakers.tryAcquire(endpoint);
+    if (!circuit.admitted()) {
       log.warn(
           "Endpoint {} is paused due to Circuit Breaker until {}",
           endpoint.getId(),
-          endpoint.getNextAvailableAt());
-      createPendingJob(endpoint, event, endpoint.getNextAvailableAt());
-      return;
+          circuit.retryAt());
+      createPendingJob(endpoint, event, circuit.retryAt());
+      return CompletableFuture.completedFuture(null);
     }
 
     // Concurrency Control: Limit parallel requests per endpoint to avoid overwhelming the
-    // subscriber.
-    long currentInProgress =
-        jobRepository.countByEndpointIdAndStatus(endpoint.getId(), DeliveryStatus.IN_PROGRESS);
-    if (currentInProgress >= endpoint.getConcurrencyLimit()) {
+    // subscriber. Permits are cluster-wide leases, held until the delivery is recorded.
+    if (!concurrencyLimiter.tryAcquire(endpoint)) {
+      circuitBreakers.cancel(endpoint);
       log.info(
-          "Concurrency limit reached for endpoint {} ({}/{}). Scheduling for later.",
+          "Concurrency limit reached for endpoint {} ({}). Scheduling for later.",
           endpoint.getId(),
-          currentInProgress,
           endpoint.getConcurrencyLimit());
-      createPendingJob(endpoint, event, LocalDateTime.now().plusSeconds(10));
-      return;
+      createPendingJob(endpoint, event, LocalDateTime.now().plus(CONCURRENCY_RETRY_DELAY));
+      return CompletableFuture.completedFuture(null);
     }
 
-    // Create Job
-    DeliveryJobEntity job =
-        DeliveryJobEntity.builder()
-            .endpointId(endpoint.getId())
-            .outboxEventId(event.getId())
-            .status(DeliveryStatus.IN_PROGRESS)
-            .attemptCount(0)
-            .build();
-    job = jobRepository.save(job);
-
-    // Execute Delivery
-    executeDelivery(job, endpoint, event);
+    CompletableFuture<Void> delivery;
+    try {
+      // Create Job
+      DeliveryJobEntity job =
+          DeliveryJobEntity.builder()
+              .endpointId(endpoint.getId())
+              .outboxEventId(event.getId())
+              .status(DeliveryStatus.IN_PROGRESS)
+              .attemptCount(0)
+              .build();
+      job = jobRepository.save(job);
+
+      // Execute Delivery
+      delivery = executeDelivery(job, endpoint, event, payload);
+    } catch (RuntimeException e) {
+      circuitBreakers.cancel(endpoint);
+      concurrencyLimiter.release(endpoint.getId());
+      throw e;
+    }
+    return delivery.whenComplete((ignored, error) -> concurrencyLimiter.release(endpoint.getId()));
   }
 
   private void createPendingJob(
@@ -133,23 +167,20 @@ public class WebhookDeliveryService {
   }
 
   @Observed(name = "webhook.delivery.attempt", contextualName = "execute-delivery")
-  private void executeDelivery(
-      DeliveryJobEntity job, WebhookEndpointEntity endpoint, OutboxEventEntity event) {
+  private CompletableFuture<Void> executeDelivery(
+      DeliveryJobEntity job,
+      WebhookEndpointEntity endpoint,
+      OutboxEventEntity event,
+      byte[] payload) {
     long start = System.currentTimeMillis();
     int attemptNo = job.getAttemptCount() + 1;
 
     job.setAttemptCount(attemptNo);
 
-    Integer httpStatus = null;
-    String errorType = null;
-    String responseSnippet = null;
-    boolean success = false;
-    Throwable exception = null;
-
+    CompletableFuture<ResponseEntity<String>> response;
     try {
       long timestamp = System.currentTimeMillis();
-      String payload = event.getPayloadJson();
-      String signature = HmacUtils.sign(timestamp + "." + payload, endpoint.getSecret());
+      String signature = HmacUtils.signTimestamped(timestamp, payload, endpoint.getSecret());
 
       Map<String, String> headers = new HashMap<>();
       headers.put("X-Webhook-Event", event.getEventType());
@@ -158,75 +189,94 @@ public class WebhookDeliveryService {
       headers.put("X-Webhook-Signature", signature);
       headers.put("User-Agent", "WebhookPlatform/1.0");
 
-      ResponseEntity<String> response = webhookClient.post(endpoint.getUrl(), headers, payload);
+      response =
+          webhookClient.postAsync(
+              endpoint.getUrl(), headers, payload, Duration.ofMillis(endpoint.getTimeoutMs()));
+    } catch (Exception e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+
+    // Recording does blocking repository calls, so it runs on the fan-out executor rather than
+    // on the HTTP client thread that completed the response.
+    return response.handleAsync(
+        (result, error) -> {
+          recordResult(job, endpoint, event, attemptNo, start, result, error);
+          return null;
+        },
+        fanout.executor());
+  }
 
+  private void recordResult(
+      DeliveryJobEntity job,
+      WebhookEndpointEntity endpoint,
+      OutboxEventEntity event,
+      int attemptNo,
+      long start,
+      ResponseEntity<String> response,
+      Throwable error) {
+    Integer httpStatus = null;
+    String errorType = null;
+    String responseSnippet = null;
+    boolean success = false;
+    Throwable exception = error instanceof CompletionException ? error.getCause() : error;
+
+    if (exception != null) {
+      errorType = retryPolicy.determineErrorType(null, exception);
+      responseSnippet = exception.getMessage();
+    } else {
       httpStatus = response.getStatusCode().value();
       responseSnippet = response.getBody();
-      if (responseSnippet != null && responseSnippet.length() > 200) {
-        responseSnippet = responseSnippet.substring(0, 200);
-      }
-
       if (response.getStatusCode().is2xxSuccessful()) {
         success = true;
       } else {
         errorType = retryPolicy.determineErrorType(httpStatus, null);
       }
+    }
+    if (responseSnippet != null && responseSnippet.length() > 200) {
+      responseSnippet = responseSnippet.substring(0, 200);
+    }
 
-    } catch (Exception e) {
-      exception = e;
-      errorType = retryPolicy.determineErrorType(null, e);
-      responseSnippet = e.getMessage();
-      if (responseSnippet != null && responseSnippet.length() > 200) {
-        responseSnippet = responseSnippet.substring(0, 200);
-      }
-    } finally {
-      long duration = System.currentTimeMillis() - start;
+    // Settle the breaker before anything that can throw, or a half-open trial is never returned.
+    if (success) {
+      circuitBreakers.onSuccess(endpoint);
+    } else {
+      circuitBreakers.onFailure(
+          endpoint, String.valueOf(httpStatus != null ? httpStatus : exception));
+    }
 
-      Timer.builder("webhook.delivery.latency")
-          .tag("status", success ? "success" : "failure")
-          .tag("error", errorType != null ? errorType : "none")
-          .register(meterRegistry)
-          .record(duration, TimeUnit.MILLISECONDS);
+    long duration = System.currentTimeMillis() - start;
 
-      if (success) {
-        meterRegistry.counter("webhook.delivery.success").increment();
-      } else {
-        meterRegistry.counter("webhook.delivery.failure", "reason", errorType).increment();
-      }
+    Timer.builder("webhook.delivery.latency")
+        .tag("status", success ? "success" : "failure")
+        .tag("error", errorType != null ? errorType : "none")
+        .register(meterRegistry)
+        .record(duration, TimeUnit.MILLISECONDS);
 
-      DeliveryAttemptEntity attempt =
-          DeliveryAttemptEntity.builder()
-              .deliveryJobId(job.getId())
-              .attemptNo(attemptNo)
-              .httpStatus(httpStatus)
-              .errorType(errorType)
-              .durationMs(duration)
-              .responseSnippet(responseSnippet)
-              .build();
-      attemptRepository.save(attempt);
-
-      if (success) {
-        // Reset Circuit Breaker on success to restore normal traffic flow.
-        if (endpoint.getConsecutiveFailures() > 0) {
-          endpoint.setConsecutiveFailures(0);
-          endpoint.setNextAvailableAt(null);
-          endpoint.setFailureReason(null);
-          endpointRepository.save(endpoint);
-        }
-
-        job.setStatus(DeliveryStatus.SUCCEEDED);
-        jobRepository.save(job);
-
-        DeliveredDedupeEntity dedupe =
-            DeliveredDedupeEntity.builder()
-                .id(new DeliveredDedupeId(endpoint.getId(), event.getId()))
-                .build();
-        dedupeRepository.save(dedupe);
-
-        log.info("Delivery success for job {}", job.getId());
-      } else {
-        handleFailure(job, endpoint, httpStatus, exception);
-      }
+    if (success) {
+      meterRegistry.counter("webhook.delivery.success").increment();
+    } else {
+      meterRegistry.counter("webhook.delivery.failure", "reason", errorType).increment();
+    }
+
+    DeliveryAttemptEntity attempt =
+        DeliveryAttemptEntity.builder()
+            .deliveryJobId(job.getId())
+            .attemptNo(attemptNo)
+            .httpStatus(httpStatus)
+            .errorType(errorType)
+            .durationMs(duration)
+            .responseSnippet(responseSnippet)
+            .build();
+    attemptWriter.write(attempt);
+
+    if (success) {
+      job.setStatus(DeliveryStatus.SUCCEEDED);
+      commitResult(job, new DeliveredDedupeId(endpoint.getId(), event.getId()), null);
+      dedupeFilter.put(endpoint.getId(), event.getId());
+
+      log.info("Delivery success for job {}", job.getId());
+    } else {
+      handleFailure(job, endpoint, httpStatus, exception);
     }
   }
 
@@ -235,26 +285,6 @@ public class WebhookDeliveryService {
       WebhookEndpointEntity endpoint,
       Integer httpStatus,
       Throwable exception) {
-    // Increment Circuit Breaker Failures
-    int failures = endpoint.getConsecutiveFailures() + 1;
-    endpoint.setConsecutiveFailures(failures);
-
-    if (failures >= endpoint.getCircuitBreakerThreshold()) {
-      LocalDateTime pausedUntil = LocalDateTime.now().plusMinutes(5);
-      endpoint.setNextAvailableAt(pausedUntil);
-      endpoint.setFailureReason(
-          "Circuit Breaker Open: "
-              + failures
-              + " consecutive failures. Last error: "
-              + (httpStatus != null ? httpStatus : exception));
-      log.error(
-          "Circuit Breaker OPEN for endpoint {}. Paused until {}", endpoint.getId(), pausedUntil);
-      meterRegistry
-          .counter("webhook.circuit_breaker.open", "endpoint", endpoint.getId().toString())
-          .increment();
-    }
-    endpointRepository.save(endpoint);
-
     boolean canRetry = retryPolicy.canRetry(httpStatus, exception);
 
     if (!canRetry) {
@@ -264,19 +294,20 @@ public class WebhookDeliveryService {
           job.getId(),
           httpStatus,
           exception != null ? exception.getMessage() : "Unknown");
-      jobRepository.save(job);
+      commitResult(job, null, null);
       meterRegistry.counter("webhook.delivery.permanent_failure").increment();
       return;
     }
 
     meterRegistry.counter("webhook.delivery.retry").increment();
 
+    DeadLetterEntity deadLetter = null;
     if (job.getAttemptCount() >= endpoint.getMaxAttempts()) {
       job.setStatus(DeliveryStatus.DLQ);
       log.warn(
           "Job {} failed after {} attempts. Moving to DLQ.", job.getId(), job.getAttemptCount());
 
-      DeadLetterEntity deadLetter =
+      deadLetter =
           DeadLetterEntity.builder()
               .deliveryJobId(job.getId())
               .reason(
@@ -285,7 +316,6 @@ public class WebhookDeliveryService {
                       + ". Last error: "
                       + (httpStatus != null ? httpStatus : exception))
               .build();
-      deadLetterRepository.save(deadLetter);
       meterRegistry.counter("webhook.dlq.events").increment();
 
     } else {
@@ -299,7 +329,26 @@ public class WebhookDeliveryService {
           job.getNextAttemptAt(),
           delaySeconds);
     }
-    jobRepository.save(job);
+    commitResult(job, null, deadLetter);
+  }
+
+  // The outcome of an attempt commits as one unit: the job's new state together with its dedupe
+  // row or dead letter, so a crash cannot leave a SUCCEEDED job that may be delivered again.
+  // Attempts are written behind and circuit state asynchronously, neither is needed for this.
+  private void commitResult(
+      DeliveryJobEntity job, DeliveredDedupeId delivered, DeadLetterEntity deadLetter) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          jobRepository.updateResult(
+              job.getId(), job.getStatus(), job.getAttemptCount(), job.getNextAttemptAt());
+          if (delivered != null) {
+            dedupeRepository.insertIfAbsent(
+                delivered.getEndpointId(), delivered.getOutboxEventId(), LocalDateTime.now());
+          }
+          if (deadLetter != null) {
+            deadLetterRepository.save(deadLetter);
+          }
+        });
   }
 
   public void retryJob(java.util.UUID jobId) {
@@ -309,15 +358,51 @@ public class WebhookDeliveryService {
             .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
 
     WebhookEndpointEntity endpoint =
-        endpointRepository
-            .findById(job.getEndpointId())
+        endpointCache
+            .endpoint(job.getEndpointId())
             .orElseThrow(() -> new IllegalStateException("Endpoint not found for job " + jobId));
 
-    OutboxEventEntity event =
-        eventRepository
-            .findById(job.getOutboxEventId())
-            .orElseThrow(() -> new IllegalStateException("Event not found for job " + jobId));
+    OutboxEventEntity event = eventRepository.findById(job.getOutboxEventId()).orElse(null);
+    if (event == null) {
+      // Its outbox partition was detached (a dropped one takes its jobs along): nothing left to
+      // send, and throwing would only bring the job back on every poll.
+      log.warn(
+          "Event {} of job {} no longer exists, failing the job", job.getOutboxEventId(), jobId);
+      job.setStatus(DeliveryStatus.FAILED);
+      job.setNextAttemptAt(null);
+      jobRepository.save(job);
+      return;
+    }
+
+    // Retries go through the breaker too, so a recovering endpoint is not hit with its whole
+    // backlog at once.
+    EndpointCircuitBreakers.Decision circuit = circuitBreakers.tryAcquire(endpoint);
+    if (!circuit.admitted()) {
+      reschedule(job, circuit.retryAt());
+      return;
+    }
+
+    // And through the concurrency limit, or a retry burst after an outage would ignore it.
+    if (!concurrencyLimiter.tryAcquire(endpoint)) {
+      circuitBreakers.cancel(endpoint);
+      reschedule(job, LocalDateTime.now().plus(CONCURRENCY_RETRY_DELAY));
+      return;
+    }
 
-    executeDelivery(job, endpoint, event);
+    CompletableFuture<Void> delivery;
+    try {
+      delivery = executeDelivery(job, endpoint, event, event.payloadBytes());
+    } catch (RuntimeException e) {
+      circuitBreakers.cancel(endpoint);
+      concurrencyLimiter.release(endpoint.getId());
+      throw e;
+    }
+    delivery.whenComplete((ignored, error) -> concurrencyLimiter.release(endpoint.getId())).join();
+  }
+
+  private void reschedule(DeliveryJobEntity job, LocalDateTime nextAttemptAt) {
+    job.setStatus(DeliveryStatus.PENDING);
+    job.setNextAttemptAt(nextAttemptAt);
+    jobRepository.save(job);
   }
 }
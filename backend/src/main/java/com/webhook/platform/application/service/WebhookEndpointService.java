@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class WebhookEndpointService {
 
   private final WebhookEndpointRepository repository;
+  private final EndpointCache endpointCache;
 
   @Transactional(readOnly = true)
   public Page<WebhookEndpointEntity> listEndpoints(
@@ -45,6 +46,7 @@ public class WebhookEndpointService {
             .timeoutMs(command.timeoutMs() != null ? command.timeoutMs() : 5000)
             .concurrencyLimit(command.concurrencyLimit() != null ? command.concurrencyLimit() : 2)
             .build();
+    endpointCache.invalidateTenantAfterCommit(tenantId);
     return repository.save(entity);
   }
 
@@ -65,6 +67,7 @@ public class WebhookEndpointService {
     if (command.timeoutMs() != null) entity.setTimeoutMs(command.timeoutMs());
     if (command.concurrencyLimit() != null) entity.setConcurrencyLimit(command.concurrencyLimit());
 
+    endpointCache.invalidateTenantAfterCommit(tenantId);
     return repository.save(entity);
   }
 
@@ -82,6 +85,7 @@ public class WebhookEndpointService {
     WebhookEndpointEntity entity =
         repository.findById(id).orElseThrow(() -> new RuntimeException("Endpoint not found"));
     entity.setStatus(EndpointStatus.PAUSED);
+    endpointCache.invalidateTenantAfterCommit(entity.getTenantId());
     repository.save(entity);
   }
 }
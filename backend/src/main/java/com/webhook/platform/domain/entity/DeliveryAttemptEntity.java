@@ -17,9 +17,7 @@ import org.hibernate.annotations.CreationTimestamp;
 @AllArgsConstructor
 public class DeliveryAttemptEntity {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
-  private UUID id;
+  @Id @UuidV7 private UUID id;
 
   @Column(name = "delivery_job_id", nullable = false)
   private UUID deliveryJobId;
@@ -18,9 +18,7 @@ import org.hibernate.annotations.CreationTimestamp;
 @AllArgsConstructor
 public class DeliveryJobEntity {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
-  private UUID id;
+  @Id @UuidV7 private UUID id;
 
   @Column(name = "endpoint_id", nullable = false)
   private UUID endpointId;
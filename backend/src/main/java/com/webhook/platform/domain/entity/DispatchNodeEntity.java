@@ -0,0 +1,27 @@
+package com.webhook.platform.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_dispatch_nodes")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchNodeEntity {
+
+  @Id
+  @Column(name = "node_id")
+  private String nodeId;
+
+  @Column(name = "heartbeat_at", nullable = false)
+  private LocalDateTime heartbeatAt;
+}
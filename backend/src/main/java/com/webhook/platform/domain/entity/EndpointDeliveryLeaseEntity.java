@@ -0,0 +1,30 @@
+package com.webhook.platform.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One row per concurrency slot of an endpoint (slot < concurrency_limit).
+@Entity
+@Table(name = "endpoint_delivery_leases")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointDeliveryLeaseEntity {
+
+  @EmbeddedId private EndpointDeliveryLeaseId id;
+
+  // Null when the slot is free.
+  @Column(name = "owner")
+  private String owner;
+
+  @Column(name = "lease_until")
+  private LocalDateTime leaseUntil;
+}
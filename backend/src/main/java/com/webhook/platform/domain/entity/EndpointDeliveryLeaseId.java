@@ -0,0 +1,21 @@
+package com.webhook.platform.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointDeliveryLeaseId implements Serializable {
+  @Column(name = "endpoint_id")
+  private UUID endpointId;
+
+  @Column(name = "slot")
+  private Integer slot;
+}
@@ -1,7 +1,9 @@
 package com.webhook.platform.domain.entity;
 
 import com.webhook.platform.domain.model.EventStatus;
+import com.webhook.platform.domain.policy.PayloadCompression;
 import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -18,19 +20,26 @@ import org.hibernate.annotations.CreationTimestamp;
 @AllArgsConstructor
 public class OutboxEventEntity {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
-  private UUID id;
+  @Id @UuidV7 private UUID id;
 
   @Column(name = "tenant_id", nullable = false)
   private UUID tenantId;
 
+  // Hash bucket of tenantId; dispatcher nodes lease shards instead of competing for every row.
+  @Column(name = "shard", nullable = false)
+  private int shard;
+
   @Column(name = "event_type", nullable = false)
   private String eventType;
 
-  @Column(name = "payload_json", nullable = false, columnDefinition = "TEXT")
+  // Exactly one of payloadJson / payloadGzip is set, depending on the compression threshold.
+  // Both travel as-is in the queue message, so compressed payloads stay compressed on the wire.
+  @Column(name = "payload_json", columnDefinition = "TEXT")
   private String payloadJson;
 
+  @Column(name = "payload_gzip", columnDefinition = "BYTEA")
+  private byte[] payloadGzip;
+
   @Enumerated(EnumType.STRING)
   @Column(name = "status", nullable = false)
   private EventStatus status;
@@ -41,4 +50,12 @@ public class OutboxEventEntity {
 
   @Column(name = "published_at")
   private LocalDateTime publishedAt;
+
+  // Not a bean getter on purpose: Jackson must not inflate the payload when serializing.
+  public byte[] payloadBytes() {
+    if (payloadGzip != null) {
+      return PayloadCompression.decompress(payloadGzip);
+    }
+    return payloadJson.getBytes(StandardCharsets.UTF_8);
+  }
 }
@@ -0,0 +1,31 @@
+package com.webhook.platform.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_shard_leases")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxShardLeaseEntity {
+
+  @Id
+  @Column(name = "shard")
+  private Integer shard;
+
+  // Null when the shard is free.
+  @Column(name = "owner")
+  private String owner;
+
+  @Column(name = "lease_until")
+  private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,58 @@
+package com.webhook.platform.domain.entity;
+
+import java.lang.reflect.Member;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * RFC 9562 UUIDv7: 48-bit Unix millis, 12-bit sequence (monotonic within this JVM), 62 random bits.
+ * The random part comes from SecureRandom, like {@link UUID#randomUUID()}, so ids stay unguessable.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  // Packed (millis << 12 | sequence). When the sequence overflows it carries into the millis,
+  // which keeps ids strictly increasing even at >4096 ids/ms.
+  private static final AtomicLong LAST = new AtomicLong();
+
+  public UuidV7Generator(
+      UuidV7 config, Member member, CustomIdGeneratorCreationContext creationContext) {}
+
+  @Override
+  public Object generate(
+      SharedSessionContractImplementor session,
+      Object owner,
+      Object currentValue,
+      EventType eventType) {
+    return next();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+
+  public static UUID next() {
+    long now = System.currentTimeMillis();
+    long prev;
+    long next;
+    do {
+      prev = LAST.get();
+      next = now > (prev >>> 12) ? now << 12 : prev + 1;
+    } while (!LAST.compareAndSet(prev, next));
+
+    long millis = next >>> 12;
+    long sequence = next & 0xFFFL;
+    long msb = (millis << 16) | 0x7000L | sequence;
+    long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb);
+  }
+}
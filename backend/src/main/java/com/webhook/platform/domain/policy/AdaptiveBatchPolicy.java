@@ -0,0 +1,57 @@
+package com.webhook.platform.domain.policy;
+
+/**
+ * Sizes polling batches from the result of the previous fetch. A full batch means there is a
+ * backlog: double the batch size and fetch again right away. An empty batch means idle: back off
+ * exponentially up to the max delay and let the batch size decay. Thread-safe, since a dispatcher
+ * can be driven by its scheduler and by a wake-up listener at the same time.
+ */
+public class AdaptiveBatchPolicy {
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final long minDelayMs;
+  private final long maxDelayMs;
+
+  private int batchSize;
+  private long delayMs;
+  private long nextRunAtMs;
+
+  public AdaptiveBatchPolicy(int minBatchSize, int maxBatchSize, long minDelayMs, long maxDelayMs) {
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = Math.max(minBatchSize, maxBatchSize);
+    this.minDelayMs = minDelayMs;
+    this.maxDelayMs = Math.max(minDelayMs, maxDelayMs);
+    this.batchSize = minBatchSize;
+    this.delayMs = minDelayMs;
+  }
+
+  public synchronized int batchSize() {
+    return batchSize;
+  }
+
+  public synchronized long delayMs() {
+    return delayMs;
+  }
+
+  public synchronized boolean isDue(long nowMs) {
+    return nowMs >= nextRunAtMs;
+  }
+
+  /** Records a fetch result; returns true when the caller should fetch again immediately. */
+  public synchronized boolean record(int fetched, int requested, long nowMs) {
+    boolean full = fetched >= requested;
+    if (full) {
+      batchSize = Math.min(maxBatchSize, Math.max(batchSize, requested) * 2);
+      delayMs = 0;
+    } else if (fetched == 0) {
+      delayMs = delayMs == 0 ? minDelayMs : Math.min(maxDelayMs, delayMs * 2);
+      batchSize = Math.max(minBatchSize, batchSize / 2);
+    } else {
+      // Partial batch: backlog drained, keep the size and poll at the base rate.
+      delayMs = minDelayMs;
+    }
+    nextRunAtMs = nowMs + delayMs;
+    return full;
+  }
+}
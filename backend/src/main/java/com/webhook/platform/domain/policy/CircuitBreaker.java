@@ -0,0 +1,114 @@
+package com.webhook.platform.domain.policy;
+
+/**
+ * Per-endpoint circuit breaker. CLOSED counts consecutive failures and opens at the threshold. OPEN
+ * rejects until its deadline, then turns HALF_OPEN and admits at most trialLimit concurrent trial
+ * deliveries: a trial success closes the breaker, a trial failure reopens it for twice as long (up
+ * to the max). Thread-safe; deliveries to one endpoint complete on many threads.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final int trialLimit;
+  private final long openMs;
+  private final long maxOpenMs;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private int trialsInFlight;
+  private long currentOpenMs;
+  private long openUntilMs;
+
+  public CircuitBreaker(int failureThreshold, int trialLimit, long openMs, long maxOpenMs) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.trialLimit = Math.max(1, trialLimit);
+    this.openMs = openMs;
+    this.maxOpenMs = Math.max(openMs, maxOpenMs);
+    this.currentOpenMs = openMs;
+  }
+
+  public synchronized State state() {
+    return state;
+  }
+
+  public synchronized int consecutiveFailures() {
+    return consecutiveFailures;
+  }
+
+  public synchronized long openUntilMs() {
+    return openUntilMs;
+  }
+
+  /** Admits one delivery; each true must be followed by a success, failure or cancel. */
+  public synchronized boolean tryAcquire(long nowMs) {
+    if (state == State.OPEN) {
+      if (nowMs < openUntilMs) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      trialsInFlight = 0;
+    }
+    if (state == State.HALF_OPEN) {
+      if (trialsInFlight >= trialLimit) {
+        return false;
+      }
+      trialsInFlight++;
+    }
+    return true;
+  }
+
+  /** Returns true when this success closed the breaker. */
+  public synchronized boolean onSuccess() {
+    consecutiveFailures = 0;
+    if (state != State.HALF_OPEN) {
+      return false;
+    }
+    state = State.CLOSED;
+    trialsInFlight = 0;
+    currentOpenMs = openMs;
+    return true;
+  }
+
+  /** Returns true when this failure opened the breaker. */
+  public synchronized boolean onFailure(long nowMs) {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN) {
+      open(nowMs, Math.min(maxOpenMs, currentOpenMs * 2));
+      return true;
+    }
+    if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+      open(nowMs, openMs);
+      return true;
+    }
+    // OPEN: a delivery admitted before the breaker opened has finished.
+    return false;
+  }
+
+  /** Gives back an admission that never reached the endpoint. */
+  public synchronized void cancel() {
+    if (state == State.HALF_OPEN && trialsInFlight > 0) {
+      trialsInFlight--;
+    }
+  }
+
+  /** Adopts an open breaker observed elsewhere (another node, or state from before a restart). */
+  public synchronized void openUntil(long untilMs) {
+    if (state == State.CLOSED || untilMs > openUntilMs) {
+      state = State.OPEN;
+      openUntilMs = untilMs;
+    }
+  }
+
+  private void open(long nowMs, long durationMs) {
+    state = State.OPEN;
+    currentOpenMs = durationMs;
+    openUntilMs = nowMs + durationMs;
+    trialsInFlight = 0;
+  }
+}
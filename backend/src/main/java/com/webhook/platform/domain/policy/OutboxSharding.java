@@ -0,0 +1,25 @@
+package com.webhook.platform.domain.policy;
+
+import java.util.UUID;
+
+public class OutboxSharding {
+
+  // Shards are leased by dispatcher nodes; all events of a tenant land in the same shard.
+  // Changing the count remaps tenants, so drain PENDING events before resizing.
+  private final int shardCount;
+
+  public OutboxSharding(int shardCount) {
+    if (shardCount < 1) {
+      throw new IllegalArgumentException("shardCount must be positive");
+    }
+    this.shardCount = shardCount;
+  }
+
+  public int shardCount() {
+    return shardCount;
+  }
+
+  public int shardOf(UUID tenantId) {
+    return Math.floorMod(tenantId.hashCode(), shardCount);
+  }
+}
@@ -0,0 +1,48 @@
+package com.webhook.platform.domain.policy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class PayloadCompression {
+
+  // Small payloads are stored as plain text: gzip overhead (~20 bytes + CPU) is not worth it
+  // below a few KB, and plain text stays readable in the database.
+  private final int thresholdBytes;
+  private final int level;
+
+  public PayloadCompression(int thresholdBytes, int level) {
+    this.thresholdBytes = thresholdBytes;
+    this.level = level;
+  }
+
+  public boolean shouldCompress(int sizeBytes) {
+    return thresholdBytes >= 0 && sizeBytes >= thresholdBytes;
+  }
+
+  public byte[] compress(byte[] raw) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+    try (GZIPOutputStream gzip =
+        new GZIPOutputStream(out) {
+          {
+            def.setLevel(level);
+          }
+        }) {
+      gzip.write(raw);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error compressing payload", e);
+    }
+    return out.toByteArray();
+  }
+
+  public static byte[] decompress(byte[] compressed) {
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return gzip.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error decompressing payload", e);
+    }
+  }
+}
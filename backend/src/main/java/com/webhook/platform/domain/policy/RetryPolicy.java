@@ -44,7 +44,8 @@ public class RetryPolicy {
 
   public String determineErrorType(Integer httpStatus, Throwable error) {
     if (error != null) {
-      if (error instanceof java.net.SocketTimeoutException
+      // InterruptedIOException covers socket read and connect timeouts.
+      if (error instanceof java.io.InterruptedIOException
           || error instanceof java.util.concurrent.TimeoutException) {
         return "TIMEOUT";
       }
@@ -0,0 +1,120 @@
+package com.webhook.platform.domain.policy;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over pairs of UUIDs, split into generations so old entries age out: inserts go to
+ * the newest generation, lookups check all of them, and {@link #rotate()} drops the oldest. A false
+ * answer from {@link #mightContain} is definite; a true answer may be a false positive at roughly
+ * the configured rate while each generation holds at most its expected insertions. Lock-free for
+ * readers and writers.
+ */
+public class RotatingBloomFilter {
+
+  private final int bitsPerGeneration;
+  private final int hashFunctions;
+  private volatile AtomicLongArray[] generations;
+
+  public RotatingBloomFilter(long expectedInsertions, double falsePositiveRate, int generations) {
+    long n = Math.max(1, expectedInsertions);
+    double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+    long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+    // Rounded up to whole words; Integer.MAX_VALUE bits (256 MiB) per generation is plenty.
+    this.bitsPerGeneration = (int) Math.min(Integer.MAX_VALUE - 63, (bits + 63) / 64 * 64);
+    this.hashFunctions =
+        Math.max(1, (int) Math.round((double) bitsPerGeneration / n * Math.log(2)));
+    this.generations = new AtomicLongArray[Math.max(1, generations)];
+    for (int i = 0; i < this.generations.length; i++) {
+      this.generations[i] = newGeneration();
+    }
+  }
+
+  public int hashFunctions() {
+    return hashFunctions;
+  }
+
+  public long bitsPerGeneration() {
+    return bitsPerGeneration;
+  }
+
+  public void put(UUID a, UUID b) {
+    put(a, b, 0);
+  }
+
+  /** Adds to an older generation (0 is the newest), e.g. when loading entries of known age. */
+  public void put(UUID a, UUID b, int generation) {
+    AtomicLongArray[] current = generations;
+    AtomicLongArray target = current[Math.min(generation, current.length - 1)];
+    long h1 = h1(a, b);
+    long h2 = h2(a, b);
+    for (int i = 0; i < hashFunctions; i++) {
+      int bit = index(h1, h2, i);
+      long mask = 1L << bit;
+      int word = bit >>> 6;
+      long old = target.get(word);
+      // Skip the CAS for bits that are already set, which is most of them on a warm filter.
+      while ((old & mask) == 0 && !target.compareAndSet(word, old, old | mask)) {
+        old = target.get(word);
+      }
+    }
+  }
+
+  public boolean mightContain(UUID a, UUID b) {
+    long h1 = h1(a, b);
+    long h2 = h2(a, b);
+    for (AtomicLongArray generation : generations) {
+      if (contains(generation, h1, h2)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Starts a fresh generation and forgets the oldest one. */
+  public synchronized void rotate() {
+    AtomicLongArray[] rotated = new AtomicLongArray[generations.length];
+    rotated[0] = newGeneration();
+    System.arraycopy(generations, 0, rotated, 1, generations.length - 1);
+    generations = rotated;
+  }
+
+  private boolean contains(AtomicLongArray generation, long h1, long h2) {
+    for (int i = 0; i < hashFunctions; i++) {
+      int bit = index(h1, h2, i);
+      if ((generation.get(bit >>> 6) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Kirsch-Mitzenmacher: k indexes from two independent hashes.
+  private int index(long h1, long h2, int i) {
+    return (int) Long.remainderUnsigned(h1 + i * h2, bitsPerGeneration);
+  }
+
+  private AtomicLongArray newGeneration() {
+    return new AtomicLongArray(bitsPerGeneration / 64);
+  }
+
+  private static long h1(UUID a, UUID b) {
+    return mix(a.getMostSignificantBits() ^ mix(b.getLeastSignificantBits()));
+  }
+
+  private static long h2(UUID a, UUID b) {
+    // Odd, so successive indexes never collapse onto one bit.
+    return mix(a.getLeastSignificantBits() ^ mix(b.getMostSignificantBits() + 0x9E3779B97F4A7C15L))
+        | 1L;
+  }
+
+  // MurmurHash3 fmix64 finalizer.
+  private static long mix(long k) {
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb93e53e2dc53L;
+    k ^= k >>> 33;
+    return k;
+  }
+}
@@ -4,26 +4,113 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
+/**
+ * HMAC-SHA256 signing with cached keys. Each thread keeps a few initialized {@link Mac}s by secret
+ * and reuses them (doFinal resets a Mac to its keyed state), so a delivery pays neither the
+ * provider lookup nor the key setup. Threads that miss, including short-lived virtual threads,
+ * clone a keyed prototype from a shared cache instead of starting from scratch. Both caches are
+ * LRU-bounded, so rotated or deleted endpoint secrets age out.
+ */
 public class HmacUtils {
 
   // HMAC-SHA256 is the industry standard for webhook signatures (e.g., Stripe, GitHub).
   // It ensures payload integrity and authenticity without exposing the secret key.
   private static final String ALGORITHM = "HmacSHA256";
 
+  private static final int SHARED_KEYS = 1024;
+  private static final int KEYS_PER_THREAD = 32;
+
+  private static final Map<String, Mac> PROTOTYPES = lru(SHARED_KEYS);
+  private static final ThreadLocal<Map<String, Mac>> THREAD_MACS =
+      ThreadLocal.withInitial(() -> lru(KEYS_PER_THREAD));
+
   public static String sign(String data, String secret) {
+    Mac mac = mac(secret);
+    return Base64.getEncoder().encodeToString(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  // Signs prefix + payload without concatenating them, so the payload bytes are never copied.
+  public static String sign(String prefix, byte[] payload, String secret) {
+    Mac mac = mac(secret);
+    mac.update(prefix.getBytes(StandardCharsets.UTF_8));
+    return Base64.getEncoder().encodeToString(mac.doFinal(payload));
+  }
+
+  /** Signs "{timestamp}.{payload}", the string covered by X-Webhook-Signature. */
+  public static String signTimestamped(long timestamp, byte[] payload, String secret) {
+    if (timestamp < 0) {
+      return sign(timestamp + ".", payload, secret);
+    }
+    Mac mac = mac(secret);
+    // Decimal digits written straight into a small buffer instead of building a String.
+    byte[] prefix = new byte[20];
+    int start = prefix.length - 1;
+    prefix[start] = '.';
+    long value = timestamp;
+    do {
+      prefix[--start] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value > 0);
+    mac.update(prefix, start, prefix.length - start);
+    return Base64.getEncoder().encodeToString(mac.doFinal(payload));
+  }
+
+  // Package-private for tests.
+  static Mac mac(String secret) {
+    Map<String, Mac> macs = THREAD_MACS.get();
+    Mac mac = macs.get(secret);
+    if (mac == null) {
+      mac = copyOf(secret);
+      macs.put(secret, mac);
+    } else {
+      // doFinal already resets it, but a call that failed between update and doFinal would leave
+      // its bytes in the next signature.
+      mac.reset();
+    }
+    return mac;
+  }
+
+  private static Mac prototype(String secret) {
+    synchronized (PROTOTYPES) {
+      Mac prototype = PROTOTYPES.get(secret);
+      if (prototype == null) {
+        prototype = newMac(secret);
+        PROTOTYPES.put(secret, prototype);
+      }
+      return prototype;
+    }
+  }
+
+  private static Mac copyOf(String secret) {
+    // Prototypes are only ever cloned, never updated, so cloning them needs no further locking.
     try {
-      Mac sha256_HMAC = Mac.getInstance(ALGORITHM);
-      SecretKeySpec secret_key =
-          new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
-      sha256_HMAC.init(secret_key);
+      return (Mac) prototype(secret).clone();
+    } catch (CloneNotSupportedException e) {
+      return newMac(secret);
+    }
+  }
 
-      byte[] rawHmac = sha256_HMAC.doFinal(data.getBytes(StandardCharsets.UTF_8));
-      return Base64.getEncoder().encodeToString(rawHmac);
+  private static Mac newMac(String secret) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+      return mac;
     } catch (NoSuchAlgorithmException | InvalidKeyException e) {
       throw new RuntimeException("Error calculating HMAC signature", e);
     }
   }
+
+  private static <V> Map<String, V> lru(int capacity) {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
 }
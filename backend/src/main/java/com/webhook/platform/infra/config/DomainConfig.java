@@ -1,6 +1,9 @@
 package com.webhook.platform.infra.config;
 
+import com.webhook.platform.domain.policy.OutboxSharding;
+import com.webhook.platform.domain.policy.PayloadCompression;
 import com.webhook.platform.domain.policy.RetryPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,4 +14,16 @@ public class DomainConfig {
   public RetryPolicy retryPolicy() {
     return new RetryPolicy();
   }
+
+  @Bean
+  public PayloadCompression payloadCompression(
+      @Value("${app.payload.compression.threshold-bytes:4096}") int thresholdBytes,
+      @Value("${app.payload.compression.level:1}") int level) {
+    return new PayloadCompression(thresholdBytes, level);
+  }
+
+  @Bean
+  public OutboxSharding outboxSharding(@Value("${app.outbox.shards.count:16}") int shardCount) {
+    return new OutboxSharding(shardCount);
+  }
 }
@@ -1,10 +1,12 @@
 package com.webhook.platform.infra.config;
 
+import com.webhook.platform.infra.messaging.EventEnvelopeMessageConverter;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -67,15 +69,21 @@ public class RabbitMQConfig {
     return BindingBuilder.bind(retryQueue).to(exchange).with(RETRY_ROUTING_KEY);
   }
 
+  // Events go out as a binary envelope; JSON stays readable for retry job ids and for events
+  // queued before the rollout. Disable writing until every consumer runs this converter.
   @Bean
-  public MessageConverter jsonMessageConverter() {
-    return new Jackson2JsonMessageConverter();
+  public MessageConverter messageConverter(
+      @Value("${app.messaging.envelope.write-enabled:true}") boolean writeEnvelope) {
+    return new EventEnvelopeMessageConverter(new Jackson2JsonMessageConverter(), writeEnvelope);
   }
 
   @Bean
-  public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+  public RabbitTemplate rabbitTemplate(
+      ConnectionFactory connectionFactory, MessageConverter messageConverter) {
     RabbitTemplate template = new RabbitTemplate(connectionFactory);
-    template.setMessageConverter(jsonMessageConverter());
+    template.setMessageConverter(messageConverter);
+    // Unroutable messages come back as returns instead of being silently dropped after an ack.
+    template.setMandatory(true);
     return template;
   }
 }
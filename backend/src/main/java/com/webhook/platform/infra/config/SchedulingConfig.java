@@ -0,0 +1,13 @@
+package com.webhook.platform.infra.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Dispatchers, lease renewal and maintenance jobs. The H2 test profile turns them off: every
+// cached test context shares one in-memory database, and their polls would lock its tables
+// under the other tests. Tests call the jobs directly instead.
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {}
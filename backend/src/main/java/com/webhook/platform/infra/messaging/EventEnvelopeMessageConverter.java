@@ -0,0 +1,167 @@
+package com.webhook.platform.infra.messaging;
+
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import com.webhook.platform.domain.model.EventStatus;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Writes outbox events as a fixed binary envelope instead of a Jackson-serialized entity:
+ *
+ * <pre>
+ * version:u8 flags:u8 id:16 tenantId:16 createdAt:i64(epoch s) i32(nanos)
+ * eventType:u16 len + UTF-8   payload:i32 len + bytes (gzip when FLAG_GZIP)
+ * </pre>
+ *
+ * Everything else (retry job ids, and JSON events still queued from before the rollout) is
+ * delegated by content type, so both formats are readable side by side.
+ *
+ * <p>Events in either format carry the time they were published (epoch ms) in the {@link
+ * #PUBLISHED_AT_HEADER} header, which comes back as the event's publishedAt. A republish after a
+ * confirm timeout gets a new one.
+ */
+public class EventEnvelopeMessageConverter implements MessageConverter {
+
+  public static final String CONTENT_TYPE = "application/vnd.webhook.event-envelope";
+  public static final String PUBLISHED_AT_HEADER = "x-published-at";
+
+  static final byte VERSION = 1;
+  static final byte FLAG_GZIP = 0x01;
+
+  private static final int FIXED_HEADER_BYTES = 1 + 1 + 16 + 16 + 8 + 4 + 2 + 4;
+
+  private final MessageConverter fallback;
+  private final boolean writeEnvelope;
+
+  public EventEnvelopeMessageConverter(MessageConverter fallback, boolean writeEnvelope) {
+    this.fallback = fallback;
+    this.writeEnvelope = writeEnvelope;
+  }
+
+  @Override
+  public Message toMessage(Object object, MessageProperties messageProperties) {
+    if (!(object instanceof OutboxEventEntity event)) {
+      return fallback.toMessage(object, messageProperties);
+    }
+    // The AMQP timestamp property only has second precision.
+    messageProperties.setHeader(PUBLISHED_AT_HEADER, System.currentTimeMillis());
+    if (!writeEnvelope) {
+      return fallback.toMessage(object, messageProperties);
+    }
+    messageProperties.setContentType(CONTENT_TYPE);
+    byte[] body = encode(event);
+    messageProperties.setContentLength(body.length);
+    return new Message(body, messageProperties);
+  }
+
+  @Override
+  public Object fromMessage(Message message) {
+    MessageProperties properties = message.getMessageProperties();
+    Object object =
+        CONTENT_TYPE.equals(properties.getContentType())
+            ? decode(message.getBody())
+            : fallback.fromMessage(message);
+    if (object instanceof OutboxEventEntity event
+        && properties.getHeader(PUBLISHED_AT_HEADER) instanceof Number publishedAt) {
+      event.setPublishedAt(
+          LocalDateTime.ofInstant(
+              Instant.ofEpochMilli(publishedAt.longValue()), ZoneId.systemDefault()));
+    }
+    return object;
+  }
+
+  static byte[] encode(OutboxEventEntity event) {
+    boolean gzip = event.getPayloadGzip() != null;
+    byte[] payload =
+        gzip ? event.getPayloadGzip() : event.getPayloadJson().getBytes(StandardCharsets.UTF_8);
+    byte[] eventType = event.getEventType().getBytes(StandardCharsets.UTF_8);
+    if (eventType.length > 0xFFFF) {
+      throw new MessageConversionException("Event type too long for envelope");
+    }
+    LocalDateTime createdAt = event.getCreatedAt();
+
+    ByteBuffer buf = ByteBuffer.allocate(FIXED_HEADER_BYTES + eventType.length + payload.length);
+    buf.put(VERSION);
+    buf.put(gzip ? FLAG_GZIP : 0);
+    putUuid(buf, event.getId());
+    putUuid(buf, event.getTenantId());
+    buf.putLong(createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE);
+    buf.putInt(createdAt != null ? createdAt.getNano() : 0);
+    buf.putShort((short) eventType.length);
+    buf.put(eventType);
+    buf.putInt(payload.length);
+    buf.put(payload);
+    return buf.array();
+  }
+
+  static OutboxEventEntity decode(byte[] body) {
+    try {
+      ByteBuffer buf = ByteBuffer.wrap(body);
+      byte version = buf.get();
+      if (version != VERSION) {
+        throw new MessageConversionException("Unsupported envelope version " + version);
+      }
+      boolean gzip = (buf.get() & FLAG_GZIP) != 0;
+      UUID id = getUuid(buf);
+      UUID tenantId = getUuid(buf);
+      long epochSecond = buf.getLong();
+      int nanos = buf.getInt();
+      byte[] eventType = getBytes(buf, Short.toUnsignedInt(buf.getShort()));
+      byte[] payload = getBytes(buf, buf.getInt());
+
+      OutboxEventEntity.OutboxEventEntityBuilder event =
+          OutboxEventEntity.builder()
+              .id(id)
+              .tenantId(tenantId)
+              .eventType(new String(eventType, StandardCharsets.UTF_8))
+              .status(EventStatus.ENQUEUED)
+              .createdAt(
+                  epochSecond == Long.MIN_VALUE
+                      ? null
+                      : LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC));
+      if (gzip) {
+        event.payloadGzip(payload);
+      } else {
+        event.payloadJson(new String(payload, StandardCharsets.UTF_8));
+      }
+      return event.build();
+    } catch (BufferUnderflowException e) {
+      throw new MessageConversionException("Malformed event envelope", e);
+    }
+  }
+
+  // Lengths come off the wire: check them before allocating, so a truncated or corrupt message
+  // cannot make us allocate up to 2 GB.
+  private static byte[] getBytes(ByteBuffer buf, int length) {
+    if (length < 0 || length > buf.remaining()) {
+      throw new MessageConversionException(
+          "Malformed event envelope: length "
+              + length
+              + " with "
+              + buf.remaining()
+              + " bytes remaining");
+    }
+    byte[] bytes = new byte[length];
+    buf.get(bytes);
+    return bytes;
+  }
+
+  private static void putUuid(ByteBuffer buf, UUID uuid) {
+    buf.putLong(uuid.getMostSignificantBits());
+    buf.putLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID getUuid(ByteBuffer buf) {
+    return new UUID(buf.getLong(), buf.getLong());
+  }
+}
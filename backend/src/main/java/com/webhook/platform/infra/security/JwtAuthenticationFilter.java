@@ -44,9 +44,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
 
       if (jwtService.isTokenValid(jwt, userDetails)) {
+        // Controllers and the rate limiter read the domain User, not the UserDetails wrapper.
+        Object principal =
+            userDetails instanceof SecurityUser securityUser ? securityUser.getUser() : userDetails;
         UsernamePasswordAuthenticationToken authToken =
-            new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities());
+            new UsernamePasswordAuthenticationToken(principal, null, userDetails.getAuthorities());
         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authToken);
       }
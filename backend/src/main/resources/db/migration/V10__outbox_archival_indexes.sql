@@ -0,0 +1,4 @@
+-- Lookups by event / job id used by the archival pipeline (OutboxArchivalService).
+CREATE INDEX idx_jobs_outbox_event ON delivery_jobs(outbox_event_id);
+CREATE INDEX idx_dedupe_outbox_event ON delivered_dedupe(outbox_event_id);
+CREATE INDEX idx_dead_letters_job ON dead_letters(delivery_job_id);
@@ -0,0 +1,17 @@
+-- Tell every node to drop its cached endpoints for a tenant when one of them changes. Row-level,
+-- so the payload can carry the tenant; Postgres delivers on commit and folds duplicates per tx.
+-- Circuit-breaker updates fire it too, so other nodes see a paused endpoint right away.
+CREATE OR REPLACE FUNCTION notify_endpoint_changed() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('endpoint_changed', OLD.tenant_id::text);
+    ELSE
+        PERFORM pg_notify('endpoint_changed', NEW.tenant_id::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_webhook_endpoints_notify
+    AFTER INSERT OR UPDATE OR DELETE ON webhook_endpoints
+    FOR EACH ROW EXECUTE FUNCTION notify_endpoint_changed();
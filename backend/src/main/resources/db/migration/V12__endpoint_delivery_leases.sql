@@ -0,0 +1,13 @@
+-- Cluster-wide per-endpoint concurrency: a node may run a delivery only while it holds an
+-- unexpired lease on one of the endpoint's slots. Rows are created on demand by the application;
+-- a crashed node's slots become free once lease_until passes.
+CREATE TABLE endpoint_delivery_leases (
+    endpoint_id UUID NOT NULL REFERENCES webhook_endpoints(id) ON DELETE CASCADE,
+    slot INTEGER NOT NULL,
+    owner VARCHAR(255),
+    lease_until TIMESTAMP,
+    PRIMARY KEY (endpoint_id, slot)
+);
+
+CREATE INDEX idx_endpoint_delivery_leases_owner ON endpoint_delivery_leases(owner)
+    WHERE owner IS NOT NULL;
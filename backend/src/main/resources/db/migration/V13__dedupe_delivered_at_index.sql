@@ -0,0 +1,2 @@
+-- Range scans by delivery time, used to load and refresh DeliveredDedupeFilter.
+CREATE INDEX idx_dedupe_delivered_at ON delivered_dedupe(delivered_at);
@@ -0,0 +1,8 @@
+-- Large payloads are stored gzip-compressed in payload_gzip; small ones stay as plain text.
+ALTER TABLE outbox_events ALTER COLUMN payload_json DROP NOT NULL;
+ALTER TABLE outbox_events ADD COLUMN payload_gzip BYTEA;
+ALTER TABLE outbox_events ADD CONSTRAINT chk_outbox_payload_present
+    CHECK (payload_json IS NOT NULL OR payload_gzip IS NOT NULL);
+
+-- Already compressed: keep it out-of-line but skip TOAST's own pglz pass.
+ALTER TABLE outbox_events ALTER COLUMN payload_gzip SET STORAGE EXTERNAL;
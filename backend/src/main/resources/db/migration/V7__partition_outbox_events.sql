@@ -0,0 +1,48 @@
+-- Range-partition outbox_events by created_at into daily partitions, managed at runtime by
+-- OutboxPartitionMaintainer (future partitions + retention).
+
+-- A FK onto a partitioned table must include the partition key, and expired partitions are
+-- dropped wholesale, so outbox_event_id is no longer enforced by FK.
+ALTER TABLE delivery_jobs DROP CONSTRAINT fk_job_event;
+ALTER TABLE delivered_dedupe DROP CONSTRAINT fk_dedupe_event;
+
+ALTER TABLE outbox_events RENAME TO outbox_events_legacy;
+ALTER INDEX idx_outbox_status_created RENAME TO idx_outbox_legacy_status_created;
+
+CREATE TABLE outbox_events (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    tenant_id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload_json TEXT,
+    status VARCHAR(50) NOT NULL, -- PENDING, ENQUEUED, PUBLISHED
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    published_at TIMESTAMP,
+    payload_gzip BYTEA,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_outbox_events_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id),
+    CONSTRAINT chk_outbox_payload_present
+        CHECK (payload_json IS NOT NULL OR payload_gzip IS NOT NULL)
+) PARTITION BY RANGE (created_at);
+
+ALTER TABLE outbox_events ALTER COLUMN payload_gzip SET STORAGE EXTERNAL;
+CREATE INDEX idx_outbox_status_created ON outbox_events(status, created_at);
+
+-- Existing rows become a single partition ending tomorrow; it ages out like any other.
+-- The next week of daily partitions is created up front so the first boot does not depend
+-- on the maintenance job.
+DO $$
+DECLARE
+    first_day DATE := CURRENT_DATE + 1;
+BEGIN
+    EXECUTE format(
+        'ALTER TABLE outbox_events ATTACH PARTITION outbox_events_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+        first_day);
+    FOR i IN 0..6 LOOP
+        EXECUTE format(
+            'CREATE TABLE outbox_events_p%s PARTITION OF outbox_events FOR VALUES FROM (%L) TO (%L)',
+            to_char(first_day + i, 'YYYYMMDD'), first_day + i, first_day + i + 1);
+    END LOOP;
+END $$;
+
+-- Safety net for rows outside any daily partition (e.g. maintenance job not running).
+CREATE TABLE outbox_events_default PARTITION OF outbox_events DEFAULT;
@@ -0,0 +1,12 @@
+-- Wake the dispatcher on commit instead of waiting for the next poll. Statement-level, so a
+-- batched multi-row insert sends a single notification (and Postgres folds duplicates per tx).
+CREATE OR REPLACE FUNCTION notify_outbox_pending() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('outbox_pending', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_events_notify
+    AFTER INSERT ON outbox_events
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_outbox_pending();
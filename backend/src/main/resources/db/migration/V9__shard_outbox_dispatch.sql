@@ -0,0 +1,22 @@
+-- Outbox shards: events are bucketed by a hash of tenant_id (computed by the application) and
+-- dispatcher nodes lease disjoint sets of shards instead of all polling the same rows.
+
+-- Existing rows land in shard 0; they are drained by whichever node holds it.
+ALTER TABLE outbox_events ADD COLUMN shard SMALLINT NOT NULL DEFAULT 0;
+ALTER TABLE outbox_events ALTER COLUMN shard DROP DEFAULT;
+
+CREATE INDEX idx_outbox_pending_shard ON outbox_events(shard, created_at) WHERE status = 'PENDING';
+
+CREATE TABLE outbox_shard_leases (
+    shard INTEGER PRIMARY KEY,
+    owner VARCHAR(255),
+    lease_until TIMESTAMP
+);
+
+CREATE TABLE outbox_dispatch_nodes (
+    node_id VARCHAR(255) PRIMARY KEY,
+    heartbeat_at TIMESTAMP NOT NULL
+);
+
+-- Matches the default app.outbox.shards.count; missing rows are also created at startup.
+INSERT INTO outbox_shard_leases (shard) SELECT generate_series(0, 15);
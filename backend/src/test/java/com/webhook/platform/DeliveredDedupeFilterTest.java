@@ -0,0 +1,111 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.webhook.platform.application.repository.DeliveredDedupeRepository;
+import com.webhook.platform.application.service.DeliveredDedupeFilter;
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.rabbitmq.listener.simple.auto-startup=false")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class DeliveredDedupeFilterTest {
+
+  @Autowired DeliveredDedupeRepository dedupeRepository;
+  @Autowired TransactionTemplate transactionTemplate;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  private final UUID endpointId = UUID.randomUUID();
+  private DeliveredDedupeFilter nodeA;
+  private DeliveredDedupeFilter nodeB;
+
+  @BeforeEach
+  void setUp() {
+    dedupeRepository.deleteAll();
+    nodeA = node();
+    nodeB = node();
+    refresh(nodeA);
+    refresh(nodeB);
+  }
+
+  @Test
+  void shouldCheckTheTableForDeliveriesAnotherNodeMadeSinceTheLastRefresh() {
+    LocalDateTime hourAgo = LocalDateTime.now().minusHours(1);
+    OutboxEventEntity fresh = event(LocalDateTime.now(), LocalDateTime.now());
+    OutboxEventEntity old = event(hourAgo, hourAgo);
+    OutboxEventEntity untouched = event(hourAgo, hourAgo);
+
+    // Node A delivers both events after node B's last refresh.
+    deliverOn(nodeA, fresh);
+    deliverOn(nodeA, old);
+
+    // A freshly published event may be a republish racing node A: node B has to ask the table.
+    assertThat(nodeB.mightBeDelivered(endpointId, fresh, false)).isTrue();
+    // So may any message the broker hands out again, however old the event.
+    assertThat(nodeB.mightBeDelivered(endpointId, old, true)).isTrue();
+    // An old event on its first delivery is still ruled out without a lookup.
+    assertThat(nodeB.mightBeDelivered(endpointId, untouched, false)).isFalse();
+
+    refresh(nodeB);
+    assertThat(nodeB.mightBeDelivered(endpointId, old, false)).isTrue();
+  }
+
+  @Test
+  void shouldCheckTheTableForAnOldEventRepublishedDuringABacklog() {
+    // Created an hour ago, published just now: the dispatcher is catching up on a backlog.
+    LocalDateTime hourAgo = LocalDateTime.now().minusHours(1);
+    OutboxEventEntity first = event(hourAgo, LocalDateTime.now());
+
+    // Node A delivers the first publish; the confirm timed out, so the event goes out again.
+    deliverOn(nodeA, first);
+    OutboxEventEntity republished = event(hourAgo, LocalDateTime.now());
+    republished.setId(first.getId());
+
+    assertThat(nodeB.mightBeDelivered(endpointId, republished, false)).isTrue();
+  }
+
+  private void deliverOn(DeliveredDedupeFilter node, OutboxEventEntity event) {
+    transactionTemplate.executeWithoutResult(
+        s -> dedupeRepository.insertIfAbsent(endpointId, event.getId(), LocalDateTime.now()));
+    node.put(endpointId, event.getId());
+  }
+
+  private void refresh(DeliveredDedupeFilter node) {
+    transactionTemplate.executeWithoutResult(s -> node.refresh());
+  }
+
+  private DeliveredDedupeFilter node() {
+    return new DeliveredDedupeFilter(
+        dedupeRepository,
+        new SimpleMeterRegistry(),
+        true,
+        10_000,
+        0.01,
+        4,
+        Duration.ofHours(6),
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(30));
+  }
+
+  private static OutboxEventEntity event(LocalDateTime createdAt, LocalDateTime publishedAt) {
+    return OutboxEventEntity.builder()
+        .id(UUID.randomUUID())
+        .createdAt(createdAt)
+        .publishedAt(publishedAt)
+        .build();
+  }
+}
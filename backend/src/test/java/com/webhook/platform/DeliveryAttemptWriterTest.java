@@ -0,0 +1,110 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.webhook.platform.application.repository.DeliveryAttemptRepository;
+import com.webhook.platform.application.service.DeliveryAttemptWriter;
+import com.webhook.platform.domain.entity.DeliveryAttemptEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.rabbitmq.listener.simple.auto-startup=false")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class DeliveryAttemptWriterTest {
+
+  @Autowired DeliveryAttemptWriter attemptWriter;
+  @Autowired DeliveryAttemptRepository attemptRepository;
+  @Autowired MeterRegistry meterRegistry;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  @BeforeEach
+  void reset() {
+    attemptRepository.deleteAll();
+  }
+
+  @Test
+  void shouldWriteConcurrentAttemptsInBatches() {
+    UUID jobId = UUID.randomUUID();
+    int attempts = 500;
+    ExecutorService pool = Executors.newFixedThreadPool(16);
+
+    CompletableFuture.allOf(
+            IntStream.rangeClosed(1, attempts)
+                .mapToObj(
+                    i ->
+                        CompletableFuture.runAsync(
+                            () ->
+                                attemptWriter.write(
+                                    DeliveryAttemptEntity.builder()
+                                        .deliveryJobId(jobId)
+                                        .attemptNo(i)
+                                        .httpStatus(200)
+                                        .durationMs(1L)
+                                        .build()),
+                            pool))
+                .toArray(CompletableFuture[]::new))
+        .join();
+    pool.shutdown();
+
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .until(() -> attemptRepository.findByDeliveryJobIdIn(List.of(jobId)).size() == attempts);
+
+    DistributionSummary batchSize =
+        meterRegistry.get("webhook.delivery.attempts.batch_size").summary();
+    assertThat(batchSize.count()).as("Flushes should be fewer than attempts").isLessThan(attempts);
+  }
+
+  @Test
+  void shouldNotLetAFailedInlineWriteReachTheCaller() {
+    DeliveryAttemptRepository failing = mock(DeliveryAttemptRepository.class);
+    when(failing.save(any())).thenThrow(new DataAccessResourceFailureException("database down"));
+    // Write-behind disabled: every attempt is saved inline on the delivery thread.
+    DeliveryAttemptWriter inline =
+        new DeliveryAttemptWriter(
+            failing,
+            mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(),
+            false,
+            100,
+            Duration.ofMillis(20),
+            10,
+            Duration.ofSeconds(1));
+
+    assertThatCode(
+            () ->
+                inline.write(
+                    DeliveryAttemptEntity.builder()
+                        .deliveryJobId(UUID.randomUUID())
+                        .attemptNo(1)
+                        .httpStatus(200)
+                        .durationMs(1L)
+                        .build()))
+        .doesNotThrowAnyException();
+  }
+}
@@ -6,11 +6,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.webhook.platform.application.repository.*;
+import com.webhook.platform.application.service.EndpointConcurrencyLimiter;
 import com.webhook.platform.application.service.WebhookDeliveryService;
 import com.webhook.platform.domain.entity.*;
 import com.webhook.platform.domain.model.DeliveryStatus;
 import com.webhook.platform.domain.model.EndpointStatus;
 import com.webhook.platform.domain.model.EventStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterAll;
@@ -34,6 +36,8 @@ class DlqLogicTest {
   @Autowired OutboxEventRepository eventRepository;
   @Autowired DeliveryJobRepository jobRepository;
   @Autowired DeadLetterRepository deadLetterRepository;
+  @Autowired DeliveredDedupeRepository dedupeRepository;
+  @Autowired EndpointConcurrencyLimiter concurrencyLimiter;
 
   @MockBean RabbitTemplate rabbitTemplate;
 
@@ -88,6 +92,82 @@ class DlqLogicTest {
     assertThat(dlqCount).as("Should have 1 entry in DeadLetter table").isEqualTo(1);
   }
 
+  @Test
+  void shouldRecordSuccessWithDedupeRow_AndNotDeliverTwice() {
+    stubFor(post(urlEqualTo("/ok")).willReturn(aResponse().withStatus(200)));
+
+    WebhookEndpointEntity endpoint = createEndpoint(wireMockServer.baseUrl() + "/ok");
+    OutboxEventEntity event = createEvent(endpoint.getTenantId());
+
+    deliveryService.processEvent(event);
+    // A redelivered message (e.g. after a lost ack) must be stopped by the dedupe row.
+    deliveryService.processEvent(event);
+
+    List<DeliveryJobEntity> jobs = jobRepository.findAll();
+    assertThat(jobs).hasSize(1);
+    assertThat(jobs.get(0).getStatus()).isEqualTo(DeliveryStatus.SUCCEEDED);
+    assertThat(dedupeRepository.existsById(new DeliveredDedupeId(endpoint.getId(), event.getId())))
+        .isTrue();
+    wireMockServer.verify(1, postRequestedFor(urlEqualTo("/ok")));
+  }
+
+  @Test
+  void shouldRescheduleRetry_WhenConcurrencyLimitReached() {
+    stubFor(post(urlEqualTo("/busy")).willReturn(aResponse().withStatus(200)));
+
+    WebhookEndpointEntity endpoint = createEndpoint(wireMockServer.baseUrl() + "/busy");
+    endpoint.setConcurrencyLimit(1);
+    endpoint = endpointRepository.save(endpoint);
+    OutboxEventEntity event = createEvent(endpoint.getTenantId());
+    DeliveryJobEntity job =
+        jobRepository.save(
+            DeliveryJobEntity.builder()
+                .endpointId(endpoint.getId())
+                .outboxEventId(event.getId())
+                .status(DeliveryStatus.IN_PROGRESS)
+                .attemptCount(1)
+                .build());
+
+    // The endpoint's only slot is busy with another delivery.
+    assertThat(concurrencyLimiter.tryAcquire(endpoint)).isTrue();
+    try {
+      deliveryService.retryJob(job.getId());
+    } finally {
+      concurrencyLimiter.release(endpoint.getId());
+    }
+
+    DeliveryJobEntity rescheduled = jobRepository.findById(job.getId()).orElseThrow();
+    assertThat(rescheduled.getStatus()).isEqualTo(DeliveryStatus.PENDING);
+    assertThat(rescheduled.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    wireMockServer.verify(0, postRequestedFor(urlEqualTo("/busy")));
+
+    // With the slot free again the retry goes through.
+    deliveryService.retryJob(job.getId());
+    assertThat(jobRepository.findById(job.getId()).orElseThrow().getStatus())
+        .isEqualTo(DeliveryStatus.SUCCEEDED);
+  }
+
+  @Test
+  void shouldFailRetry_WhenEventNoLongerExists() {
+    WebhookEndpointEntity endpoint = createEndpoint(wireMockServer.baseUrl() + "/gone");
+    // E.g. its outbox partition was detached.
+    DeliveryJobEntity job =
+        jobRepository.save(
+            DeliveryJobEntity.builder()
+                .endpointId(endpoint.getId())
+                .outboxEventId(UUID.randomUUID())
+                .status(DeliveryStatus.IN_PROGRESS)
+                .attemptCount(1)
+                .build());
+
+    deliveryService.retryJob(job.getId());
+
+    DeliveryJobEntity failed = jobRepository.findById(job.getId()).orElseThrow();
+    assertThat(failed.getStatus()).isEqualTo(DeliveryStatus.FAILED);
+    assertThat(failed.getNextAttemptAt()).isNull();
+    wireMockServer.verify(0, postRequestedFor(urlEqualTo("/gone")));
+  }
+
   private WebhookEndpointEntity createEndpoint(String url) {
     return endpointRepository.save(
         WebhookEndpointEntity.builder()
@@ -0,0 +1,178 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.webhook.platform.application.repository.DispatchNodeRepository;
+import com.webhook.platform.application.repository.EndpointDeliveryLeaseRepository;
+import com.webhook.platform.application.repository.OutboxShardLeaseRepository;
+import com.webhook.platform.application.service.EndpointConcurrencyLimiter;
+import com.webhook.platform.application.service.OutboxShardCoordinator;
+import com.webhook.platform.domain.entity.WebhookEndpointEntity;
+import com.webhook.platform.domain.policy.OutboxSharding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.rabbitmq.listener.simple.auto-startup=false")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class EndpointConcurrencyLimiterTest {
+
+  @Autowired EndpointDeliveryLeaseRepository leaseRepository;
+  @Autowired OutboxShardLeaseRepository shardLeaseRepository;
+  @Autowired DispatchNodeRepository nodeRepository;
+  @Autowired PlatformTransactionManager transactionManager;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  private final WebhookEndpointEntity endpoint =
+      WebhookEndpointEntity.builder().id(UUID.randomUUID()).concurrencyLimit(2).build();
+
+  @BeforeEach
+  void reset() {
+    leaseRepository.deleteAll();
+  }
+
+  @Test
+  void shouldEnforceLimitAcrossNodesAndHandBackIdleSlots() throws InterruptedException {
+    EndpointConcurrencyLimiter a = node("node-a", Duration.ofSeconds(30));
+    EndpointConcurrencyLimiter b = node("node-b", Duration.ofSeconds(30));
+
+    assertThat(a.tryAcquire(endpoint)).isTrue();
+    assertThat(b.tryAcquire(endpoint)).isTrue();
+    assertThat(a.tryAcquire(endpoint)).as("both slots are leased").isFalse();
+    assertThat(b.tryAcquire(endpoint)).isFalse();
+
+    // A released permit is reused locally without touching the lease table.
+    a.release(endpoint.getId());
+    assertThat(a.tryAcquire(endpoint)).isTrue();
+    assertThat(b.tryAcquire(endpoint)).isFalse();
+
+    a.release(endpoint.getId());
+    Thread.sleep(50);
+    a.renewLeases(); // idle longer than idle-release: slot goes back to the table
+    assertThat(b.tryAcquire(endpoint)).isTrue();
+    assertThat(a.tryAcquire(endpoint)).isFalse();
+  }
+
+  @Test
+  void shouldFreeSlotsOfANodeThatStopsRenewing() throws InterruptedException {
+    EndpointConcurrencyLimiter crashed = node("node-a", Duration.ofMillis(200));
+    EndpointConcurrencyLimiter survivor = node("node-b", Duration.ofMillis(200));
+
+    assertThat(crashed.tryAcquire(endpoint)).isTrue();
+    assertThat(crashed.tryAcquire(endpoint)).isTrue();
+    assertThat(survivor.tryAcquire(endpoint)).isFalse();
+
+    Thread.sleep(300);
+    assertThat(survivor.tryAcquire(endpoint)).isTrue();
+    assertThat(survivor.tryAcquire(endpoint)).isTrue();
+
+    // The crashed node finds out on its next renewal and stops admitting on the lost slots.
+    crashed.renewLeases();
+    crashed.release(endpoint.getId());
+    assertThat(crashed.tryAcquire(endpoint)).isFalse();
+  }
+
+  @Test
+  void shouldKeepSlotsLeasedWhileRenewalIsRunning() {
+    WebhookEndpointEntity single =
+        WebhookEndpointEntity.builder().id(UUID.randomUUID()).concurrencyLimit(1).build();
+    AtomicReference<EndpointConcurrencyLimiter> self = new AtomicReference<>();
+    EndpointDeliveryLeaseRepository racing =
+        mock(EndpointDeliveryLeaseRepository.class, delegatesTo(leaseRepository));
+    // A delivery leases the slot right after renewal read the held rows.
+    doAnswer(
+            invocation -> {
+              Object held =
+                  leaseRepository.findHeld(invocation.getArgument(0), invocation.getArgument(1));
+              assertThat(self.get().tryAcquire(single)).isTrue();
+              return held;
+            })
+        .when(racing)
+        .findHeld(anyString(), any());
+    EndpointConcurrencyLimiter a = node("node-a", Duration.ofSeconds(30), racing);
+    self.set(a);
+
+    a.renewLeases();
+    a.release(single.getId());
+
+    assertThat(a.tryAcquire(single)).as("slot still held locally").isTrue();
+    assertThat(node("node-b", Duration.ofSeconds(30)).tryAcquire(single)).isFalse();
+  }
+
+  @Test
+  void shouldAdmitOnHeldSlotsWhileLeasingIsWaitingOnTheDatabase() throws Exception {
+    CountDownLatch leasing = new CountDownLatch(1);
+    CountDownLatch unblock = new CountDownLatch(1);
+    AtomicInteger lookups = new AtomicInteger();
+    EndpointDeliveryLeaseRepository slow =
+        mock(EndpointDeliveryLeaseRepository.class, delegatesTo(leaseRepository));
+    // The second lease request stalls in the database.
+    doAnswer(
+            invocation -> {
+              if (lookups.incrementAndGet() == 2) {
+                leasing.countDown();
+                unblock.await();
+              }
+              return leaseRepository.findFreeSlotForUpdate(
+                  invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            })
+        .when(slow)
+        .findFreeSlotForUpdate(any(), anyInt(), any());
+    EndpointConcurrencyLimiter a = node("node-a", Duration.ofSeconds(30), slow);
+
+    assertThat(a.tryAcquire(endpoint)).isTrue();
+    CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> a.tryAcquire(endpoint));
+    assertThat(leasing.await(5, TimeUnit.SECONDS)).isTrue();
+    try {
+      a.release(endpoint.getId());
+      assertThat(
+              CompletableFuture.supplyAsync(() -> a.tryAcquire(endpoint)).get(1, TimeUnit.SECONDS))
+          .as("the held slot is reused without waiting for the lease")
+          .isTrue();
+    } finally {
+      unblock.countDown();
+    }
+    assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private EndpointConcurrencyLimiter node(String nodeId, Duration leaseTtl) {
+    return node(nodeId, leaseTtl, leaseRepository);
+  }
+
+  private EndpointConcurrencyLimiter node(
+      String nodeId, Duration leaseTtl, EndpointDeliveryLeaseRepository leases) {
+    OutboxShardCoordinator coordinator =
+        new OutboxShardCoordinator(
+            shardLeaseRepository, nodeRepository, new OutboxSharding(1), false, nodeId, leaseTtl);
+    return new EndpointConcurrencyLimiter(
+        leases,
+        transactionManager,
+        coordinator,
+        new SimpleMeterRegistry(),
+        leaseTtl,
+        Duration.ofMillis(10),
+        Duration.ZERO);
+  }
+}
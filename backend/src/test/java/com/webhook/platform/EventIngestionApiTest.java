@@ -0,0 +1,200 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webhook.platform.application.repository.OutboxEventRepository;
+import com.webhook.platform.application.repository.UserRepository;
+import com.webhook.platform.application.service.EventService;
+import com.webhook.platform.domain.entity.UserEntity;
+import com.webhook.platform.domain.model.Role;
+import com.webhook.platform.domain.model.User;
+import com.webhook.platform.infra.security.JwtService;
+import com.webhook.platform.infra.security.SecurityUser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "spring.rabbitmq.listener.simple.auto-startup=false",
+      "app.events.batch.max-size=3",
+      "app.events.stream.chunk-size=2"
+    })
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class EventIngestionApiTest {
+
+  private static final String NDJSON = "application/x-ndjson";
+
+  @Autowired MockMvc mockMvc;
+  @Autowired ObjectMapper objectMapper;
+  @Autowired UserRepository userRepository;
+  @Autowired OutboxEventRepository eventRepository;
+  @Autowired JwtService jwtService;
+
+  @SpyBean EventService eventService;
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  private UUID tenantId;
+  private String token;
+
+  @BeforeEach
+  void setUp() {
+    eventRepository.deleteAll();
+    tenantId = UUID.randomUUID();
+    UserEntity entity =
+        userRepository.save(
+            UserEntity.builder()
+                .tenantId(tenantId)
+                .email("ingest-" + tenantId + "@example.com")
+                .passwordHash("unused")
+                .role(Role.DEV)
+                .build());
+    User user =
+        User.builder()
+            .id(entity.getId())
+            .tenantId(tenantId)
+            .email(entity.getEmail())
+            .passwordHash(entity.getPasswordHash())
+            .role(entity.getRole())
+            .build();
+    token = jwtService.generateToken(new SecurityUser(user));
+  }
+
+  @Test
+  void shouldAcceptAValidBatch() throws Exception {
+    batch(event("batch-1"), event("batch-2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted").value(2))
+        .andExpect(jsonPath("$.rejected").value(0))
+        .andExpect(jsonPath("$.items[0].id").isNotEmpty())
+        .andExpect(jsonPath("$.items[1].id").isNotEmpty());
+
+    assertThat(eventRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectOnlyTheInvalidItemsOfABatch() throws Exception {
+    batch(event("batch-1"), "{\"eventType\":\"\",\"payload\":{}}", event("batch-3"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted").value(2))
+        .andExpect(jsonPath("$.rejected").value(1))
+        .andExpect(jsonPath("$.items[0].id").isNotEmpty())
+        .andExpect(jsonPath("$.items[1].id").doesNotExist())
+        .andExpect(jsonPath("$.items[1].error").value("Event type is required"))
+        .andExpect(jsonPath("$.items[2].id").isNotEmpty());
+
+    assertThat(eventRepository.findAll())
+        .extracting(e -> e.getEventType())
+        .containsExactlyInAnyOrder("batch-1", "batch-3");
+  }
+
+  @Test
+  void shouldReportTheLimitForAnOversizeBatch() throws Exception {
+    batch(event("batch-1"), event("batch-2"), event("batch-3"), event("batch-4"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error").value("Batch exceeds 3 events"))
+        .andExpect(jsonPath("$.size").value(4))
+        .andExpect(jsonPath("$.maxBatchSize").value(3));
+
+    assertThat(eventRepository.count()).isZero();
+  }
+
+  @Test
+  void shouldReportEveryLineOfAStreamedBackfill() throws Exception {
+    // Chunks of two: lines 1+3 commit, lines 5+6 fail as a whole, line 7 commits on its own.
+    doCallRealMethod()
+        .doThrow(new DataAccessResourceFailureException("database unavailable"))
+        .doCallRealMethod()
+        .when(eventService)
+        .createEvents(any(), any());
+
+    String body =
+        String.join(
+            "\n",
+            event("line-1"),
+            "{not json",
+            event("line-3"),
+            "{\"eventType\":\"\",\"payload\":{}}",
+            event("line-5"),
+            event("line-6"),
+            event("line-7"));
+
+    List<JsonNode> lines = stream(body);
+
+    List<Long> errorLines = new ArrayList<>();
+    for (JsonNode line : lines) {
+      if (line.has("error")) {
+        errorLines.add(line.get("line").asLong());
+      }
+    }
+    assertThat(errorLines).containsExactly(2L, 4L, 5L, 6L);
+
+    JsonNode last = lines.get(lines.size() - 1);
+    assertThat(last.get("done").asBoolean()).isTrue();
+    assertThat(last.get("lines").asLong()).isEqualTo(7);
+    assertThat(last.get("accepted").asLong()).isEqualTo(3);
+    assertThat(last.get("rejected").asLong()).isEqualTo(4);
+
+    assertThat(eventRepository.findAll())
+        .extracting(e -> e.getEventType())
+        .containsExactlyInAnyOrder("line-1", "line-3", "line-7");
+  }
+
+  private ResultActions batch(String... events) throws Exception {
+    return mockMvc.perform(
+        post("/events/batch")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"events\":[" + String.join(",", events) + "]}"));
+  }
+
+  private List<JsonNode> stream(String body) throws Exception {
+    var result =
+        mockMvc
+            .perform(
+                post("/events/stream")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(NDJSON)
+                    .content(body))
+            .andExpect(status().isOk())
+            .andReturn();
+    if (result.getRequest().isAsyncStarted()) {
+      result = mockMvc.perform(asyncDispatch(result)).andReturn();
+    }
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : result.getResponse().getContentAsString().split("\n")) {
+      if (!line.isBlank()) {
+        lines.add(objectMapper.readTree(line));
+      }
+    }
+    return lines;
+  }
+
+  private static String event(String type) {
+    return "{\"eventType\":\"" + type + "\",\"payload\":{\"ok\":true}}";
+  }
+}
@@ -0,0 +1,71 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.webhook.platform.application.repository.OutboxEventRepository;
+import com.webhook.platform.application.service.EventService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "spring.rabbitmq.listener.simple.auto-startup=false",
+      "app.events.group-commit.enabled=true",
+      "app.events.group-commit.max-wait=50ms"
+    })
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class GroupCommitTest {
+
+  @Autowired EventService eventService;
+  @Autowired OutboxEventRepository eventRepository;
+  @Autowired MeterRegistry meterRegistry;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  @BeforeEach
+  void reset() {
+    eventRepository.deleteAll();
+  }
+
+  @Test
+  void shouldCoalesceConcurrentIngestsIntoFewerTransactions() {
+    UUID tenantId = UUID.randomUUID();
+    int callers = 20;
+    ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+    List<CompletableFuture<UUID>> futures =
+        IntStream.range(0, callers)
+            .mapToObj(
+                i ->
+                    CompletableFuture.supplyAsync(
+                        () -> eventService.createEvent(tenantId, "GROUPED", "{\"i\":" + i + "}"),
+                        pool))
+            .toList();
+    List<UUID> ids = futures.stream().map(CompletableFuture::join).toList();
+    pool.shutdown();
+
+    // Every caller returned only after its row was committed.
+    assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+    assertThat(eventRepository.findAllById(ids)).hasSize(callers);
+
+    DistributionSummary batchSize =
+        meterRegistry.get("webhook.event.group_commit.batch_size").summary();
+    assertThat(batchSize.totalAmount()).isEqualTo(callers);
+    assertThat(batchSize.count()).as("Flushes should be fewer than callers").isLessThan(callers);
+  }
+}
@@ -0,0 +1,158 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webhook.platform.application.repository.*;
+import com.webhook.platform.application.service.OutboxArchivalService;
+import com.webhook.platform.domain.entity.*;
+import com.webhook.platform.domain.model.DeliveryStatus;
+import com.webhook.platform.domain.model.EndpointStatus;
+import com.webhook.platform.domain.model.EventStatus;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "spring.rabbitmq.listener.simple.auto-startup=false",
+      "app.outbox.archive.dir=target/test-archive",
+      "app.outbox.archive.min-age=0s",
+      "app.outbox.archive.pause-between-chunks=0ms"
+    })
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class OutboxArchivalTest {
+
+  private static final Path ARCHIVE_DIR = Path.of("target/test-archive");
+
+  @Autowired OutboxArchivalService archivalService;
+  @Autowired WebhookEndpointRepository endpointRepository;
+  @Autowired OutboxEventRepository eventRepository;
+  @Autowired DeliveryJobRepository jobRepository;
+  @Autowired DeliveryAttemptRepository attemptRepository;
+  @Autowired DeliveredDedupeRepository dedupeRepository;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  @BeforeEach
+  void reset() throws IOException {
+    FileSystemUtils.deleteRecursively(ARCHIVE_DIR);
+    attemptRepository.deleteAll();
+    dedupeRepository.deleteAll();
+    jobRepository.deleteAll();
+    eventRepository.deleteAll();
+    endpointRepository.deleteAll();
+  }
+
+  @Test
+  void shouldArchiveAndDeleteOnlyEventsWithFinishedJobs() throws IOException {
+    WebhookEndpointEntity endpoint = createEndpoint();
+    OutboxEventEntity delivered = createPublishedEvent(endpoint.getTenantId());
+    OutboxEventEntity retrying = createPublishedEvent(endpoint.getTenantId());
+
+    DeliveryJobEntity doneJob = createJob(endpoint, delivered, DeliveryStatus.SUCCEEDED);
+    attemptRepository.save(
+        DeliveryAttemptEntity.builder()
+            .deliveryJobId(doneJob.getId())
+            .attemptNo(1)
+            .httpStatus(200)
+            .build());
+    dedupeRepository.save(
+        DeliveredDedupeEntity.builder()
+            .id(new DeliveredDedupeId(endpoint.getId(), delivered.getId()))
+            .build());
+    createJob(endpoint, retrying, DeliveryStatus.PENDING);
+
+    assertThat(archivalService.archiveFinishedEvents(() -> 1_000_000))
+        .as("paused while the dispatcher is backlogged")
+        .isZero();
+    assertThat(archivalService.archiveFinishedEvents(() -> 0)).isEqualTo(1);
+
+    assertThat(eventRepository.findById(delivered.getId())).isEmpty();
+    assertThat(jobRepository.findById(doneJob.getId())).isEmpty();
+    assertThat(attemptRepository.count()).isZero();
+    assertThat(dedupeRepository.count()).isZero();
+    assertThat(eventRepository.findById(retrying.getId())).isPresent();
+
+    List<JsonNode> lines = readArchive();
+    assertThat(lines).hasSize(1);
+    assertThat(lines.get(0).get("id").asText()).isEqualTo(delivered.getId().toString());
+    assertThat(lines.get(0).at("/jobs/0/attempts/0/httpStatus").asInt()).isEqualTo(200);
+  }
+
+  private List<JsonNode> readArchive() throws IOException {
+    List<Path> files;
+    try (var stream = Files.list(ARCHIVE_DIR)) {
+      files = stream.toList();
+    }
+    assertThat(files).singleElement().asString().endsWith(".ndjson.gz");
+    ObjectMapper mapper = new ObjectMapper();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(files.get(0))), StandardCharsets.UTF_8))) {
+      return reader.lines().map(line -> readTree(mapper, line)).toList();
+    }
+  }
+
+  private static JsonNode readTree(ObjectMapper mapper, String line) {
+    try {
+      return mapper.readTree(line);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private WebhookEndpointEntity createEndpoint() {
+    return endpointRepository.save(
+        WebhookEndpointEntity.builder()
+            .tenantId(UUID.randomUUID())
+            .name("Archive Test Endpoint")
+            .url("http://localhost/archive")
+            .status(EndpointStatus.ACTIVE)
+            .secret("secret")
+            .maxAttempts(3)
+            .timeoutMs(1000)
+            .concurrencyLimit(5)
+            .build());
+  }
+
+  private OutboxEventEntity createPublishedEvent(UUID tenantId) {
+    return eventRepository.save(
+        OutboxEventEntity.builder()
+            .tenantId(tenantId)
+            .eventType("ARCHIVE_EVENT")
+            .payloadJson("{}")
+            .status(EventStatus.ENQUEUED)
+            .publishedAt(LocalDateTime.now().minusSeconds(1))
+            .build());
+  }
+
+  private DeliveryJobEntity createJob(
+      WebhookEndpointEntity endpoint, OutboxEventEntity event, DeliveryStatus status) {
+    return jobRepository.save(
+        DeliveryJobEntity.builder()
+            .endpointId(endpoint.getId())
+            .outboxEventId(event.getId())
+            .status(status)
+            .build());
+  }
+}
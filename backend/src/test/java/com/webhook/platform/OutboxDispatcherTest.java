@@ -0,0 +1,114 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import com.webhook.platform.adapters.in.scheduler.OutboxDispatcher;
+import com.webhook.platform.application.repository.OutboxEventRepository;
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import com.webhook.platform.domain.model.EventStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "spring.rabbitmq.listener.simple.auto-startup=false",
+      "app.outbox.dispatch.confirm-timeout=200ms"
+    })
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class OutboxDispatcherTest {
+
+  @Autowired OutboxDispatcher dispatcher;
+  @Autowired OutboxEventRepository eventRepository;
+  @Autowired MeterRegistry meterRegistry;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  @BeforeEach
+  void reset() {
+    eventRepository.deleteAll();
+  }
+
+  @Test
+  void shouldMarkOnlyConfirmedEventsEnqueued() {
+    // The broker acks ACKED, nacks NACKED and never answers for SILENT.
+    doAnswer(
+            invocation -> {
+              OutboxEventEntity event = invocation.getArgument(2);
+              CorrelationData correlation = invocation.getArgument(3);
+              switch (event.getEventType()) {
+                case "ACKED" -> correlation
+                    .getFuture()
+                    .complete(new CorrelationData.Confirm(true, null));
+                case "NACKED" -> correlation
+                    .getFuture()
+                    .complete(new CorrelationData.Confirm(false, "rejected"));
+                default -> {}
+              }
+              return null;
+            })
+        .when(rabbitTemplate)
+        .convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+    UUID acked = save("ACKED");
+    UUID nacked = save("NACKED");
+    UUID silent = save("SILENT");
+
+    assertThat(dispatcher.processOutbox()).isEqualTo(1);
+
+    OutboxEventEntity enqueued = eventRepository.findById(acked).orElseThrow();
+    assertThat(enqueued.getStatus()).isEqualTo(EventStatus.ENQUEUED);
+    assertThat(enqueued.getPublishedAt()).isNotNull();
+    assertThat(eventRepository.findById(nacked).orElseThrow().getStatus())
+        .isEqualTo(EventStatus.PENDING);
+    assertThat(eventRepository.findById(silent).orElseThrow().getStatus())
+        .isEqualTo(EventStatus.PENDING);
+  }
+
+  @Test
+  void shouldReportTheBacklogCountedAtTheLastRefresh() {
+    save("PENDING-1");
+    save("PENDING-2");
+    dispatcher.refreshBacklog();
+    assertThat(backlog()).isEqualTo(2);
+
+    // Scrapes read the cached count; the new event only shows up after the next refresh.
+    save("PENDING-3");
+    assertThat(backlog()).isEqualTo(2);
+
+    dispatcher.refreshBacklog();
+    assertThat(backlog()).isEqualTo(3);
+  }
+
+  private double backlog() {
+    return meterRegistry
+        .get("webhook.dispatcher.backlog")
+        .tag("dispatcher", "outbox")
+        .gauge()
+        .value();
+  }
+
+  private UUID save(String eventType) {
+    return eventRepository
+        .save(
+            OutboxEventEntity.builder()
+                .tenantId(UUID.randomUUID())
+                .eventType(eventType)
+                .payloadJson("{}")
+                .status(EventStatus.PENDING)
+                .build())
+        .getId();
+  }
+}
@@ -0,0 +1,174 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.webhook.platform.adapters.in.scheduler.OutboxPartitionMaintainer;
+import com.webhook.platform.application.port.out.OutboxPartitionManager;
+import com.webhook.platform.application.port.out.OutboxPartitionManager.Partition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+// Partitioning only exists in the Flyway schema, so this runs against Postgres with migrations.
+@TestPropertySource(
+    properties = {
+      "spring.datasource.driver-class-name=org.postgresql.Driver",
+      "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+      "spring.jpa.hibernate.ddl-auto=none",
+      "spring.flyway.enabled=true",
+      "app.outbox.partitions.enabled=true"
+    })
+class OutboxPartitionMaintenanceTest extends AbstractIntegrationTest {
+
+  private static final UUID TENANT = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+  @Autowired OutboxPartitionManager partitionManager;
+  @Autowired OutboxPartitionMaintainer maintainer;
+  @Autowired JdbcTemplate jdbcTemplate;
+
+  @Test
+  void shouldCreateTheComingDaysAheadOfTime() {
+    maintainer.maintain();
+
+    LocalDate week = LocalDate.now().plusDays(7);
+    assertThat(partitionManager.listPartitions())
+        .filteredOn(p -> p.name().equals("outbox_events_p" + compact(week)))
+        .singleElement()
+        .satisfies(
+            p -> {
+              assertThat(p.from()).isEqualTo(week.atStartOfDay());
+              assertThat(p.to()).isEqualTo(week.plusDays(1).atStartOfDay());
+            });
+    // Rows from before partitioning stay attached as one open-ended partition.
+    assertThat(partitionManager.listPartitions())
+        .filteredOn(p -> p.name().equals("outbox_events_legacy"))
+        .singleElement()
+        .extracting(Partition::from)
+        .isNull();
+  }
+
+  @Test
+  void shouldRouteEventsIntoTheirDayAndDetachIt() {
+    LocalDate day = LocalDate.now().plusDays(20);
+    String partition = "outbox_events_p" + compact(day);
+    partitionManager.createDailyPartition(day);
+    UUID eventId = insertEvent(day.atTime(12, 0));
+
+    assertThat(countIn(partition, eventId)).isEqualTo(1);
+
+    partitionManager.detachPartition(partition);
+
+    assertThat(partitionManager.listPartitions())
+        .extracting(Partition::name)
+        .doesNotContain(partition);
+    // Detached, the rows are kept for archiving but no longer part of outbox_events.
+    assertThat(countIn(partition, eventId)).isEqualTo(1);
+    assertThat(countIn("outbox_events", eventId)).isZero();
+  }
+
+  @Test
+  void shouldDropDeliveryRowsWithTheirPartition() {
+    LocalDate day = LocalDate.now().plusDays(30);
+    String partition = "outbox_events_p" + compact(day);
+    partitionManager.createDailyPartition(day);
+    partitionManager.createDailyPartition(day.plusDays(1));
+
+    UUID endpointId = insertEndpoint();
+    UUID dropped = insertEvent(day.atTime(12, 0));
+    UUID kept = insertEvent(day.plusDays(1).atTime(12, 0));
+    UUID droppedJob = insertDelivery(endpointId, dropped);
+    UUID keptJob = insertDelivery(endpointId, kept);
+
+    partitionManager.dropPartition(partition);
+
+    assertThat(partitionManager.listPartitions())
+        .extracting(Partition::name)
+        .doesNotContain(partition);
+    assertThat(count("delivery_jobs", "id", droppedJob)).isZero();
+    assertThat(count("delivery_attempts", "delivery_job_id", droppedJob)).isZero();
+    assertThat(count("dead_letters", "delivery_job_id", droppedJob)).isZero();
+    assertThat(count("delivered_dedupe", "outbox_event_id", dropped)).isZero();
+
+    assertThat(count("delivery_jobs", "id", keptJob)).isEqualTo(1);
+    assertThat(count("delivery_attempts", "delivery_job_id", keptJob)).isEqualTo(1);
+    assertThat(count("delivered_dedupe", "outbox_event_id", kept)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepAnExpiredPartitionWithPendingEvents() {
+    LocalDate day = LocalDate.now().minusDays(40);
+    String partition = "outbox_events_p" + compact(day);
+    partitionManager.createDailyPartition(day);
+    LocalDateTime createdAt = day.atTime(12, 0);
+    insertEvent(createdAt, "PENDING");
+
+    assertThat(partitionManager.oldestPendingEvent(partition)).contains(createdAt);
+
+    maintainer.maintain();
+
+    assertThat(partitionManager.listPartitions()).extracting(Partition::name).contains(partition);
+  }
+
+  private UUID insertEndpoint() {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO webhook_endpoints (id, tenant_id, name, url, status, secret) "
+            + "VALUES (?, ?, 'partition-test', 'http://localhost/none', 'ACTIVE', 'secret')",
+        id,
+        TENANT);
+    return id;
+  }
+
+  private UUID insertEvent(LocalDateTime createdAt) {
+    return insertEvent(createdAt, "PUBLISHED");
+  }
+
+  private UUID insertEvent(LocalDateTime createdAt, String status) {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO outbox_events (id, tenant_id, event_type, payload_json, status, created_at) "
+            + "VALUES (?, ?, 'partition.test', '{}', ?, ?)",
+        id,
+        TENANT,
+        status,
+        createdAt);
+    return id;
+  }
+
+  private UUID insertDelivery(UUID endpointId, UUID eventId) {
+    UUID jobId = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO delivery_jobs (id, endpoint_id, outbox_event_id, status, attempt_count) "
+            + "VALUES (?, ?, ?, 'DLQ', 1)",
+        jobId,
+        endpointId,
+        eventId);
+    jdbcTemplate.update(
+        "INSERT INTO delivery_attempts (delivery_job_id, attempt_no, http_status) VALUES (?, 1, 500)",
+        jobId);
+    jdbcTemplate.update(
+        "INSERT INTO dead_letters (delivery_job_id, reason) VALUES (?, 'test')", jobId);
+    jdbcTemplate.update(
+        "INSERT INTO delivered_dedupe (endpoint_id, outbox_event_id) VALUES (?, ?)",
+        endpointId,
+        eventId);
+    return jobId;
+  }
+
+  private long countIn(String table, UUID eventId) {
+    return count(table, "id", eventId);
+  }
+
+  private long count(String table, String column, UUID id) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class, id);
+  }
+
+  private static String compact(LocalDate day) {
+    return day.toString().replace("-", "");
+  }
+}
@@ -0,0 +1,79 @@
+package com.webhook.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.webhook.platform.application.repository.DispatchNodeRepository;
+import com.webhook.platform.application.repository.OutboxShardLeaseRepository;
+import com.webhook.platform.application.service.OutboxShardCoordinator;
+import com.webhook.platform.domain.policy.OutboxSharding;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.rabbitmq.listener.simple.auto-startup=false")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class OutboxShardCoordinatorTest {
+
+  @Autowired OutboxShardLeaseRepository leaseRepository;
+  @Autowired DispatchNodeRepository nodeRepository;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  private final OutboxSharding sharding = new OutboxSharding(8);
+
+  @BeforeEach
+  void reset() {
+    leaseRepository.deleteAll();
+    nodeRepository.deleteAll();
+  }
+
+  @Test
+  void shouldSplitShardsWhenNodeJoinsAndTakeThemBackWhenItLeaves() {
+    OutboxShardCoordinator a = node("node-a");
+    OutboxShardCoordinator b = node("node-b");
+
+    assertThat(a.rebalance()).hasSize(8);
+
+    // b joins: it only gets shards once a has released them on its next rebalance.
+    assertThat(b.rebalance()).isEmpty();
+    assertThat(a.rebalance()).hasSize(4);
+    assertThat(b.rebalance()).hasSize(4);
+
+    Set<Integer> all = new HashSet<>(a.ownedShards());
+    all.addAll(b.ownedShards());
+    assertThat(all).hasSize(8);
+
+    nodeRepository.deleteById("node-b");
+    leaseRepository.findAll().stream()
+        .filter(l -> "node-b".equals(l.getOwner()))
+        .forEach(l -> leaseRepository.release(l.getShard(), "node-b"));
+
+    assertThat(a.rebalance()).hasSize(8);
+  }
+
+  @Test
+  void shouldNotTakeShardLeasedByAnotherLiveNode() {
+    OutboxShardCoordinator a = node("node-a");
+    a.rebalance();
+
+    // A node that believes it is alone still cannot steal unexpired leases.
+    OutboxShardCoordinator c =
+        new OutboxShardCoordinator(
+            leaseRepository, nodeRepository, sharding, true, "node-c", Duration.ofMillis(1));
+    assertThat(c.rebalance()).isEmpty();
+  }
+
+  private OutboxShardCoordinator node(String id) {
+    return new OutboxShardCoordinator(
+        leaseRepository, nodeRepository, sharding, true, id, Duration.ofSeconds(30));
+  }
+}
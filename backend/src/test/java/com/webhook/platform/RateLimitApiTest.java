@@ -0,0 +1,86 @@
+package com.webhook.platform;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.webhook.platform.application.repository.UserRepository;
+import com.webhook.platform.domain.entity.UserEntity;
+import com.webhook.platform.domain.model.Role;
+import com.webhook.platform.domain.model.User;
+import com.webhook.platform.infra.security.JwtService;
+import com.webhook.platform.infra.security.SecurityUser;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "spring.rabbitmq.listener.simple.auto-startup=false",
+      "app.rate-limit.capacity=2",
+      "app.rate-limit.refill-tokens=2",
+      "app.rate-limit.refill-duration=1h"
+    })
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class RateLimitApiTest {
+
+  @Autowired MockMvc mockMvc;
+  @Autowired UserRepository userRepository;
+  @Autowired JwtService jwtService;
+
+  @MockBean RabbitTemplate rabbitTemplate;
+
+  @Test
+  void shouldLimitEachTenantsAuthenticatedRequests() throws Exception {
+    String limited = token(UUID.randomUUID());
+    String other = token(UUID.randomUUID());
+
+    ingest(limited)
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Rate-Limit-Remaining", "1"));
+    ingest(limited).andExpect(status().isOk());
+    ingest(limited).andExpect(status().isTooManyRequests());
+
+    // Buckets are per tenant.
+    ingest(other).andExpect(status().isOk());
+  }
+
+  private ResultActions ingest(String token) throws Exception {
+    return mockMvc.perform(
+        post("/events")
+            .header("Authorization", "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"eventType\":\"rate.test\",\"payload\":{}}"));
+  }
+
+  private String token(UUID tenantId) {
+    UserEntity entity =
+        userRepository.save(
+            UserEntity.builder()
+                .tenantId(tenantId)
+                .email("rate-" + tenantId + "@example.com")
+                .passwordHash("unused")
+                .role(Role.DEV)
+                .build());
+    User user =
+        User.builder()
+            .id(entity.getId())
+            .tenantId(tenantId)
+            .email(entity.getEmail())
+            .passwordHash(entity.getPasswordHash())
+            .role(entity.getRole())
+            .build();
+    return jwtService.generateToken(new SecurityUser(user));
+  }
+}
@@ -0,0 +1,45 @@
+package com.webhook.platform.adapters.in.web.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webhook.platform.adapters.in.web.dto.EventDTOs.CreateEventRequest;
+import org.junit.jupiter.api.Test;
+
+class RawJsonDeserializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void shouldKeepObjectPayloadAsCompactJsonWithExactNumbers() throws Exception {
+    String body =
+        """
+        {"eventType": "ORDER_CREATED",
+         "payload": { "total": 10.10, "big": 12345678901234567890.5, "items": [1, {"a": null}] }}
+        """;
+
+    CreateEventRequest request = objectMapper.readValue(body, CreateEventRequest.class);
+
+    assertThat(request.getEventType()).isEqualTo("ORDER_CREATED");
+    assertThat(request.getPayload())
+        .isEqualTo("{\"total\":10.10,\"big\":12345678901234567890.5,\"items\":[1,{\"a\":null}]}");
+  }
+
+  @Test
+  void shouldStoreStringPayloadAsItsContent() throws Exception {
+    CreateEventRequest request =
+        objectMapper.readValue(
+            "{\"payload\":\"already-serialized\",\"eventType\":\"X\"}", CreateEventRequest.class);
+
+    assertThat(request.getPayload()).isEqualTo("already-serialized");
+    assertThat(request.getEventType()).isEqualTo("X");
+  }
+
+  @Test
+  void shouldLeaveNullPayloadForValidation() throws Exception {
+    CreateEventRequest request =
+        objectMapper.readValue("{\"eventType\":\"X\",\"payload\":null}", CreateEventRequest.class);
+
+    assertThat(request.getPayload()).isNull();
+  }
+}
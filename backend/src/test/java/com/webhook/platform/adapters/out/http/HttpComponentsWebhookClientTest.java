@@ -0,0 +1,172 @@
+package com.webhook.platform.adapters.out.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.sun.net.httpserver.HttpServer;
+import com.webhook.platform.domain.policy.RetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class HttpComponentsWebhookClientTest {
+
+  WireMockServer server;
+  MeterRegistry meterRegistry;
+  HttpComponentsWebhookClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // WireMock serves HTTP/2 on its HTTPS port only (ALPN), with a self-signed certificate.
+    server = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
+    server.start();
+    meterRegistry = new SimpleMeterRegistry();
+    client =
+        new HttpComponentsWebhookClient(
+            meterRegistry,
+            100,
+            2,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(30),
+            true,
+            100,
+            ClientTlsStrategyBuilder.create()
+                .setSslContext(
+                    SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build())
+                .setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+    server.stop();
+  }
+
+  @Test
+  void shouldReturnReceiverResponseAndKeepConnectionPooled() {
+    server.stubFor(
+        post(urlEqualTo("/ok")).willReturn(aResponse().withStatus(202).withBody("done")));
+
+    for (int i = 0; i < 3; i++) {
+      ResponseEntity<String> response =
+          client
+              .postAsync(
+                  server.baseUrl() + "/ok",
+                  Map.of("X-Webhook-Id", "id-" + i),
+                  "{}".getBytes(),
+                  Duration.ofSeconds(2))
+              .join();
+      assertThat(response.getStatusCode().value()).isEqualTo(202);
+      assertThat(response.getBody()).isEqualTo("done");
+    }
+
+    server.verify(
+        3, postRequestedFor(urlEqualTo("/ok")).withHeader("X-Webhook-Id", matching("id-.")));
+    // Sequential deliveries to one host reuse a single keep-alive connection.
+    assertThat(
+            meterRegistry
+                .get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available")
+                .gauge()
+                .value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldMultiplexOverHttp2WhenReceiverNegotiatesIt() {
+    server.stubFor(post(urlEqualTo("/h2")).willReturn(aResponse().withStatus(200)));
+    String url = "https://localhost:" + server.httpsPort() + "/h2";
+
+    // The first delivery negotiates; the rest run concurrently as streams on one connection.
+    client.postAsync(url, Map.of(), "{}".getBytes(), Duration.ofSeconds(5)).join();
+    List<CompletableFuture<ResponseEntity<String>>> concurrent =
+        IntStream.range(0, 20)
+            .mapToObj(i -> client.postAsync(url, Map.of(), "{}".getBytes(), Duration.ofSeconds(5)))
+            .toList();
+    concurrent.forEach(f -> assertThat(f.join().getStatusCode().value()).isEqualTo(200));
+
+    assertThat(meterRegistry.get("webhook.delivery.http.http2_hosts").gauge().value()).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("webhook.delivery.http.latency")
+                .tag("protocol", "h2")
+                .timer()
+                .count())
+        .isEqualTo(21);
+  }
+
+  @Test
+  void shouldFallBackToHttp1WhenReceiverDoesNotOfferHttp2() throws Exception {
+    HttpServer http1Only = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    http1Only.createContext(
+        "/",
+        exchange -> {
+          exchange.getRequestBody().readAllBytes();
+          exchange.sendResponseHeaders(204, -1);
+          exchange.close();
+        });
+    http1Only.start();
+    try {
+      String url = "http://localhost:" + http1Only.getAddress().getPort() + "/hook";
+      for (int i = 0; i < 2; i++) {
+        assertThat(
+                client
+                    .postAsync(url, Map.of(), "{}".getBytes(), Duration.ofSeconds(5))
+                    .join()
+                    .getStatusCode())
+            .isEqualTo(HttpStatus.NO_CONTENT);
+      }
+    } finally {
+      http1Only.stop(0);
+    }
+
+    assertThat(meterRegistry.get("webhook.delivery.http.http2_hosts").gauge().value()).isZero();
+    assertThat(
+            meterRegistry
+                .get("webhook.delivery.http.latency")
+                .tag("protocol", "http/1.1")
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldFailWithinEndpointTimeoutWhenReceiverHangs() {
+    server.stubFor(post(urlEqualTo("/slow")).willReturn(aResponse().withFixedDelay(3000)));
+
+    long start = System.nanoTime();
+    assertThatThrownBy(
+            () ->
+                client
+                    .postAsync(
+                        server.baseUrl() + "/slow",
+                        Map.of(),
+                        "{}".getBytes(),
+                        Duration.ofMillis(300))
+                    .join())
+        .satisfies(
+            e ->
+                assertThat(new RetryPolicy().determineErrorType(null, e.getCause()))
+                    .isEqualTo("TIMEOUT"));
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+  }
+}
@@ -0,0 +1,104 @@
+package com.webhook.platform.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DeliveryFanoutTest {
+
+  private final DeliveryFanout fanout =
+      new DeliveryFanout(new SimpleMeterRegistry(), "platform", 2, 16, 1000);
+
+  @AfterEach
+  void shutdown() throws InterruptedException {
+    fanout.close();
+  }
+
+  @Test
+  void shouldKeepMoreDeliveriesInFlightThanThreads() {
+    // 200 deliveries of 200ms each on 2 threads: only finishes in time if waits hold no thread.
+    List<Integer> endpoints = IntStream.range(0, 200).boxed().toList();
+    long start = System.nanoTime();
+
+    fanout.forEach(
+        endpoints,
+        i ->
+            CompletableFuture.runAsync(
+                () -> {}, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS)));
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+    assertThat(fanout.inFlight()).isZero();
+  }
+
+  @Test
+  void shouldFinishOtherEndpointsBeforeRethrowingFailure() {
+    Set<Integer> done = ConcurrentHashMap.newKeySet();
+
+    assertThatThrownBy(
+            () ->
+                fanout.forEach(
+                    List.of(1, 2, 3),
+                    i -> {
+                      if (i == 2) {
+                        throw new IllegalStateException("endpoint 2 failed");
+                      }
+                      return CompletableFuture.runAsync(() -> done.add(i));
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("endpoint 2 failed");
+    assertThat(done).containsExactlyInAnyOrder(1, 3);
+  }
+
+  @Test
+  void shouldQueueContinuationsInsteadOfRunningThemOnTheCompletingThread() throws Exception {
+    DeliveryFanout saturated =
+        new DeliveryFanout(new SimpleMeterRegistry(), "platform", 1, 1, 1000);
+    CountDownLatch release = new CountDownLatch(1);
+    Set<String> ranOn = ConcurrentHashMap.newKeySet();
+    try {
+      // Occupy the only worker, so the pool and its intake queue are full.
+      saturated.executor().execute(() -> awaitQuietly(release));
+
+      List<CompletableFuture<Void>> responses =
+          IntStream.range(0, 50).mapToObj(i -> new CompletableFuture<Void>()).toList();
+      List<CompletableFuture<Void>> recorded =
+          responses.stream()
+              .map(
+                  r ->
+                      r.thenRunAsync(
+                          () -> ranOn.add(Thread.currentThread().getName()), saturated.executor()))
+              .toList();
+
+      // Stands in for the HTTP client's I/O thread completing responses.
+      Thread ioThread = new Thread(() -> responses.forEach(r -> r.complete(null)), "io-reactor");
+      ioThread.start();
+      ioThread.join(1_000);
+      assertThat(ioThread.isAlive()).as("completing thread must not block").isFalse();
+
+      release.countDown();
+      CompletableFuture.allOf(recorded.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+      assertThat(ranOn).isNotEmpty().doesNotContain("io-reactor");
+    } finally {
+      release.countDown();
+      saturated.close();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.webhook.platform.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.webhook.platform.application.repository.WebhookEndpointRepository;
+import com.webhook.platform.domain.entity.WebhookEndpointEntity;
+import com.webhook.platform.domain.model.EndpointStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EndpointCacheTest {
+
+  WebhookEndpointRepository repository = mock(WebhookEndpointRepository.class);
+  UUID tenantId = UUID.randomUUID();
+
+  EndpointCache cache(int maxEntries) {
+    return new EndpointCache(
+        repository, new SimpleMeterRegistry(), true, maxEntries, Duration.ofMinutes(5));
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCacheUntilTenantIsInvalidated() {
+    WebhookEndpointEntity endpoint =
+        WebhookEndpointEntity.builder().id(UUID.randomUUID()).tenantId(tenantId).build();
+    when(repository.findByTenantIdAndStatus(tenantId, EndpointStatus.ACTIVE))
+        .thenReturn(List.of(endpoint));
+    when(repository.findById(endpoint.getId())).thenReturn(Optional.of(endpoint));
+    EndpointCache cache = cache(100);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(cache.activeEndpoints(tenantId)).containsExactly(endpoint);
+      assertThat(cache.endpoint(endpoint.getId())).contains(endpoint);
+    }
+    verify(repository, times(1)).findByTenantIdAndStatus(tenantId, EndpointStatus.ACTIVE);
+    verify(repository, times(1)).findById(endpoint.getId());
+
+    cache.invalidateTenant(tenantId);
+    cache.activeEndpoints(tenantId);
+    cache.endpoint(endpoint.getId());
+    verify(repository, times(2)).findByTenantIdAndStatus(tenantId, EndpointStatus.ACTIVE);
+    verify(repository, times(2)).findById(endpoint.getId());
+  }
+
+  @Test
+  void shouldNotStoreALoadThatRacedWithAnInvalidation() {
+    EndpointCache cache = cache(100);
+    when(repository.findByTenantIdAndStatus(tenantId, EndpointStatus.ACTIVE))
+        .thenAnswer(
+            invocation -> {
+              // The row changes and is invalidated while this (now stale) read is in flight.
+              cache.invalidateTenant(tenantId);
+              return List.of();
+            });
+
+    cache.activeEndpoints(tenantId);
+    cache.activeEndpoints(tenantId);
+
+    verify(repository, times(2)).findByTenantIdAndStatus(tenantId, EndpointStatus.ACTIVE);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedTenantBeyondMaxEntries() {
+    when(repository.findByTenantIdAndStatus(any(), eq(EndpointStatus.ACTIVE)))
+        .thenReturn(List.of());
+    EndpointCache cache = cache(2);
+    UUID other = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+
+    cache.activeEndpoints(tenantId);
+    cache.activeEndpoints(other);
+    cache.activeEndpoints(tenantId); // touch: other is now the eldest
+    cache.activeEndpoints(third);
+    cache.activeEndpoints(tenantId);
+    cache.activeEndpoints(other);
+
+    verify(repository, times(1)).findByTenantIdAndStatus(tenantId, EndpointStatus.ACTIVE);
+    verify(repository, times(2)).findByTenantIdAndStatus(other, EndpointStatus.ACTIVE);
+  }
+}
@@ -0,0 +1,78 @@
+package com.webhook.platform.benchmark;
+
+import com.webhook.platform.application.service.DeliveryFanout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load test for delivery fan-out: 16 consumer threads each deliver events to {@code endpoints}
+ * subscribers whose (non-blocking) HTTP call takes {@code latencyMs}. Reports events per second and
+ * the peak number of deliveries in flight per node, for platform vs virtual threads.
+ *
+ * <p>{@code threads=virtual} needs a Java 21+ JVM. Run with: {@code java -cp <test-classpath>
+ * org.openjdk.jmh.Main DeliveryFanoutLoadBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(16)
+@Fork(1)
+public class DeliveryFanoutLoadBenchmark {
+
+  @Param({"platform", "virtual"})
+  String threads;
+
+  @Param({"40", "1000"})
+  int endpoints;
+
+  @Param({"50"})
+  int latencyMs;
+
+  private DeliveryFanout fanout;
+  private List<Integer> targets;
+  private final AtomicInteger peakInFlight = new AtomicInteger();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    fanout = new DeliveryFanout(new SimpleMeterRegistry(), threads, 32, 256, 50_000);
+    targets = IntStream.range(0, endpoints).boxed().toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    System.out.printf("%n[%s] peak deliveries in flight: %d%n", threads, peakInFlight.get());
+    fanout.close();
+  }
+
+  // One op = one event delivered to every endpoint; multiply by endpoints for deliveries/s.
+  @Benchmark
+  public void deliverEvent() {
+    fanout.forEach(
+        targets,
+        endpoint -> {
+          peakInFlight.accumulateAndGet(fanout.inFlight(), Math::max);
+          return CompletableFuture.runAsync(
+              () -> {}, CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS));
+        });
+  }
+}
@@ -0,0 +1,84 @@
+package com.webhook.platform.benchmark;
+
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import com.webhook.platform.domain.model.EventStatus;
+import com.webhook.platform.infra.messaging.EventEnvelopeMessageConverter;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Jackson entity messages vs the binary event envelope on webhook.events.queue. Message sizes are
+ * printed once per trial.
+ *
+ * <p>Run with: {@code java -cp <test-classpath> org.openjdk.jmh.Main EventEnvelopeBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventEnvelopeBenchmark {
+
+  @Param({"256", "4096"})
+  int payloadBytes;
+
+  @Param({"json", "envelope"})
+  String format;
+
+  private MessageConverter converter;
+  private OutboxEventEntity event;
+  private Message message;
+
+  @Setup
+  public void setup() {
+    Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter();
+    converter = "json".equals(format) ? json : new EventEnvelopeMessageConverter(json, true);
+
+    StringBuilder payload = new StringBuilder("{\"items\":[");
+    while (payload.length() < payloadBytes) {
+      payload.append("{\"sku\":\"A-").append(payload.length()).append("\",\"qty\":1},");
+    }
+    payload.setLength(payload.length() - 1);
+    payload.append("]}");
+
+    event =
+        OutboxEventEntity.builder()
+            .id(UUID.randomUUID())
+            .tenantId(UUID.randomUUID())
+            .eventType("order.created")
+            .payloadJson(payload.toString())
+            .status(EventStatus.PENDING)
+            .createdAt(LocalDateTime.now())
+            .build();
+    message = converter.toMessage(event, new MessageProperties());
+    System.out.printf(
+        "%n[%s payload=%d] message=%d bytes%n", format, payloadBytes, message.getBody().length);
+  }
+
+  @Benchmark
+  public Message serialize() {
+    return converter.toMessage(event, new MessageProperties());
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return converter.fromMessage(message);
+  }
+}
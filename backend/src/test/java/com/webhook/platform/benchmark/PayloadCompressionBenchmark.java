@@ -0,0 +1,86 @@
+package com.webhook.platform.benchmark;
+
+import com.webhook.platform.domain.policy.PayloadCompression;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CPU cost of gzip on outbox payloads. Compare the per-op cost against the bytes saved on the
+ * outbox row and on the queue message (printed once per trial).
+ *
+ * <p>Run with: {@code java -cp <test-classpath> org.openjdk.jmh.Main PayloadCompressionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadCompressionBenchmark {
+
+  @Param({"8192", "30720"})
+  int payloadBytes;
+
+  @Param({"1", "6"})
+  int level;
+
+  private PayloadCompression compression;
+  private byte[] raw;
+  private byte[] compressed;
+
+  @Setup
+  public void setup() {
+    compression = new PayloadCompression(0, level);
+    raw = samplePayload(payloadBytes);
+    compressed = compression.compress(raw);
+    System.out.printf(
+        "%n[payload=%d level=%d] compressed=%d bytes, ratio=%.1fx%n",
+        raw.length, level, compressed.length, (double) raw.length / compressed.length);
+  }
+
+  @Benchmark
+  public byte[] compress() {
+    return compression.compress(raw);
+  }
+
+  @Benchmark
+  public byte[] decompress() {
+    return PayloadCompression.decompress(compressed);
+  }
+
+  // Order-like JSON with repeating keys and varying values, similar to typical webhook bodies.
+  static byte[] samplePayload(int targetBytes) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    StringBuilder json = new StringBuilder("{\"orderId\":\"ord_123\",\"items\":[");
+    int i = 0;
+    while (json.length() < targetBytes - 64) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"sku\":\"SKU-")
+          .append(random.nextInt(100_000))
+          .append("\",\"quantity\":")
+          .append(random.nextInt(1, 10))
+          .append(",\"unitPrice\":")
+          .append(random.nextInt(100, 99_999) / 100.0)
+          .append(",\"currency\":\"BRL\",\"warehouse\":\"WH-")
+          .append(random.nextInt(20))
+          .append("\"}");
+      i++;
+    }
+    json.append("]}");
+    return json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
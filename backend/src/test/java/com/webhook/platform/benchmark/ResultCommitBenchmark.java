@@ -0,0 +1,175 @@
+package com.webhook.platform.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Database cost of recording one successful delivery, the way WebhookDeliveryService used to
+ * ("separate": save() on the detached job and on a new dedupe row, each a SELECT plus a write in
+ * its own transaction) and the way commitResult does it now ("single": an UPDATE and an INSERT ...
+ * ON CONFLICT DO NOTHING in one transaction). Uses a file-backed H2 database by default, so each
+ * commit pays for a log write; point it at Postgres for representative numbers:
+ *
+ * <p>{@code -Dbench.jdbcUrl=jdbc:postgresql://localhost:5432/webhook_db -Dbench.user=user
+ * -Dbench.password=password}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultCommitBenchmark {
+
+  private static final int JOBS = 10_000;
+
+  @Param({"separate", "single"})
+  String commit;
+
+  private Connection connection;
+  private PreparedStatement selectJob;
+  private PreparedStatement updateJob;
+  private PreparedStatement selectDedupe;
+  private PreparedStatement insertDedupe;
+  private PreparedStatement insertDedupeIfAbsent;
+  private final UUID endpointId = UUID.randomUUID();
+  private UUID[] jobs;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    connection =
+        DriverManager.getConnection(
+            System.getProperty(
+                "bench.jdbcUrl",
+                "jdbc:h2:file:./target/result-commit-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+            System.getProperty("bench.user", "sa"),
+            System.getProperty("bench.password", ""));
+    connection.setAutoCommit(false);
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("DROP TABLE IF EXISTS result_bench_jobs");
+      ddl.execute("DROP TABLE IF EXISTS result_bench_dedupe");
+      ddl.execute(
+          "CREATE TABLE result_bench_jobs (id UUID PRIMARY KEY, status VARCHAR(20) NOT NULL, "
+              + "attempt_count INT NOT NULL, next_attempt_at TIMESTAMP, updated_at TIMESTAMP)");
+      ddl.execute(
+          "CREATE TABLE result_bench_dedupe (endpoint_id UUID NOT NULL, "
+              + "outbox_event_id UUID NOT NULL, delivered_at TIMESTAMP NOT NULL, "
+              + "PRIMARY KEY (endpoint_id, outbox_event_id))");
+    }
+    jobs = new UUID[JOBS];
+    try (PreparedStatement insert =
+        connection.prepareStatement(
+            "INSERT INTO result_bench_jobs (id, status, attempt_count) "
+                + "VALUES (?, 'IN_PROGRESS', 0)")) {
+      for (int i = 0; i < JOBS; i++) {
+        jobs[i] = UUID.randomUUID();
+        insert.setObject(1, jobs[i]);
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+    connection.commit();
+
+    selectJob =
+        connection.prepareStatement(
+            "SELECT id, status, attempt_count, next_attempt_at, updated_at "
+                + "FROM result_bench_jobs WHERE id = ?");
+    updateJob =
+        connection.prepareStatement(
+            "UPDATE result_bench_jobs SET status = ?, attempt_count = ?, next_attempt_at = ?, "
+                + "updated_at = ? WHERE id = ?");
+    selectDedupe =
+        connection.prepareStatement(
+            "SELECT endpoint_id FROM result_bench_dedupe "
+                + "WHERE endpoint_id = ? AND outbox_event_id = ?");
+    insertDedupe =
+        connection.prepareStatement(
+            "INSERT INTO result_bench_dedupe (endpoint_id, outbox_event_id, delivered_at) "
+                + "VALUES (?, ?, ?)");
+    insertDedupeIfAbsent =
+        connection.prepareStatement(
+            "INSERT INTO result_bench_dedupe (endpoint_id, outbox_event_id, delivered_at) "
+                + "VALUES (?, ?, ?) ON CONFLICT DO NOTHING");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("DROP TABLE result_bench_jobs");
+      ddl.execute("DROP TABLE result_bench_dedupe");
+    }
+    connection.commit();
+    connection.close();
+  }
+
+  @Benchmark
+  public void recordSuccess() throws SQLException {
+    UUID jobId = jobs[next++ % JOBS];
+    UUID eventId = UUID.randomUUID();
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+
+    if ("separate".equals(commit)) {
+      // jobRepository.save(job): merge loads the row, then updates it.
+      select(selectJob, jobId);
+      update(jobId, now);
+      connection.commit();
+      // dedupeRepository.save(dedupe): an assigned id is looked up before the insert.
+      selectDedupe.setObject(1, endpointId);
+      selectDedupe.setObject(2, eventId);
+      try (ResultSet rs = selectDedupe.executeQuery()) {
+        rs.next();
+      }
+      insert(insertDedupe, eventId, now);
+      connection.commit();
+    } else {
+      update(jobId, now);
+      insert(insertDedupeIfAbsent, eventId, now);
+      connection.commit();
+    }
+  }
+
+  private void select(PreparedStatement statement, UUID id) throws SQLException {
+    statement.setObject(1, id);
+    try (ResultSet rs = statement.executeQuery()) {
+      rs.next();
+    }
+  }
+
+  private void update(UUID jobId, Timestamp now) throws SQLException {
+    updateJob.setString(1, "SUCCEEDED");
+    updateJob.setInt(2, 1);
+    updateJob.setTimestamp(3, null);
+    updateJob.setTimestamp(4, now);
+    updateJob.setObject(5, jobId);
+    updateJob.executeUpdate();
+  }
+
+  private void insert(PreparedStatement statement, UUID eventId, Timestamp now)
+      throws SQLException {
+    statement.setObject(1, endpointId);
+    statement.setObject(2, eventId);
+    statement.setTimestamp(3, now);
+    statement.executeUpdate();
+  }
+}
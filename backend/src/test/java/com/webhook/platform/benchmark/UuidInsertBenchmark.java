@@ -0,0 +1,94 @@
+package com.webhook.platform.benchmark;
+
+import com.webhook.platform.domain.entity.UuidV7Generator;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insert throughput into a UUID-keyed table with random (v4) vs time-ordered (v7) keys. Uses an
+ * in-memory H2 table by default; point it at Postgres for representative numbers:
+ *
+ * <p>{@code -Dbench.jdbcUrl=jdbc:postgresql://localhost:5432/webhook_db -Dbench.user=user
+ * -Dbench.password=password}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+  private static final int BATCH = 500;
+
+  @Param({"random", "v7"})
+  String keys;
+
+  private Connection connection;
+  private PreparedStatement insert;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    connection =
+        DriverManager.getConnection(
+            System.getProperty("bench.jdbcUrl", "jdbc:h2:mem:uuidbench;DB_CLOSE_DELAY=-1"),
+            System.getProperty("bench.user", "sa"),
+            System.getProperty("bench.password", ""));
+    connection.setAutoCommit(false);
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("DROP TABLE IF EXISTS uuid_bench");
+      ddl.execute("CREATE TABLE uuid_bench (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL)");
+    }
+    connection.commit();
+    insert =
+        connection.prepareStatement(
+            "INSERT INTO uuid_bench (id, created_at) VALUES (?, CURRENT_TIMESTAMP)");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("DROP TABLE uuid_bench");
+    }
+    connection.commit();
+    connection.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void insertBatch() throws SQLException {
+    boolean ordered = "v7".equals(keys);
+    for (int i = 0; i < BATCH; i++) {
+      insert.setObject(1, ordered ? UuidV7Generator.next() : UUID.randomUUID());
+      insert.addBatch();
+    }
+    insert.executeBatch();
+    connection.commit();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public UUID generate() {
+    return "v7".equals(keys) ? UuidV7Generator.next() : UUID.randomUUID();
+  }
+}
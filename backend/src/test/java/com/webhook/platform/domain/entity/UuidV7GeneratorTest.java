@@ -0,0 +1,33 @@
+package com.webhook.platform.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+  @Test
+  void shouldProduceVersion7WithRfcVariantAndCurrentTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID id = UuidV7Generator.next();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+  }
+
+  @Test
+  void shouldBeStrictlyIncreasingInByteOrder() {
+    UUID previous = UuidV7Generator.next();
+    for (int i = 0; i < 50_000; i++) {
+      UUID current = UuidV7Generator.next();
+      // Postgres compares uuid as unsigned bytes; msb carries time + sequence.
+      assertThat(
+              Long.compareUnsigned(
+                  current.getMostSignificantBits(), previous.getMostSignificantBits()))
+          .isPositive();
+      previous = current;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.webhook.platform.domain.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchPolicyTest {
+
+  @Test
+  void shouldGrowBatchAndPollImmediatelyWhileBatchesAreFull() {
+    AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(50, 400, 50, 1000);
+
+    assertThat(policy.record(50, 50, 0)).isTrue();
+    assertThat(policy.batchSize()).isEqualTo(100);
+    assertThat(policy.record(100, 100, 0)).isTrue();
+    assertThat(policy.record(200, 200, 0)).isTrue();
+    assertThat(policy.record(400, 400, 0)).isTrue();
+
+    assertThat(policy.batchSize()).isEqualTo(400);
+    assertThat(policy.delayMs()).isZero();
+    assertThat(policy.isDue(0)).isTrue();
+  }
+
+  @Test
+  void shouldBackOffExponentiallyAndShrinkWhenIdle() {
+    AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(50, 400, 50, 300);
+    policy.record(50, 50, 0);
+    policy.record(100, 100, 0);
+
+    assertThat(policy.record(0, 200, 0)).isFalse();
+    assertThat(policy.delayMs()).isEqualTo(50);
+    assertThat(policy.batchSize()).isEqualTo(100);
+
+    policy.record(0, 100, 0);
+    policy.record(0, 50, 0);
+    policy.record(0, 50, 1000);
+
+    assertThat(policy.delayMs()).isEqualTo(300);
+    assertThat(policy.batchSize()).isEqualTo(50);
+    assertThat(policy.isDue(1299)).isFalse();
+    assertThat(policy.isDue(1300)).isTrue();
+  }
+
+  @Test
+  void shouldResetToBaseDelayOnPartialBatch() {
+    AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(50, 400, 50, 1000);
+    policy.record(0, 50, 0);
+    policy.record(0, 50, 0);
+
+    assertThat(policy.record(10, 50, 0)).isFalse();
+    assertThat(policy.delayMs()).isEqualTo(50);
+  }
+}
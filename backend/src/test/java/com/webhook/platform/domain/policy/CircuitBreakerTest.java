@@ -0,0 +1,56 @@
+package com.webhook.platform.domain.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  @Test
+  void shouldOpenAtThresholdAndAdmitOnlyTrialsWhenHalfOpen() {
+    CircuitBreaker breaker = new CircuitBreaker(3, 1, 1000, 8000);
+
+    assertThat(breaker.onFailure(0)).isFalse();
+    assertThat(breaker.onFailure(0)).isFalse();
+    assertThat(breaker.onFailure(0)).as("third consecutive failure opens").isTrue();
+    assertThat(breaker.tryAcquire(999)).isFalse();
+
+    // Deadline passed: one trial goes through, everything else keeps waiting.
+    assertThat(breaker.tryAcquire(1000)).isTrue();
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    assertThat(breaker.tryAcquire(1000)).isFalse();
+
+    assertThat(breaker.onSuccess()).as("trial success closes").isTrue();
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(breaker.tryAcquire(1000)).isTrue();
+    assertThat(breaker.tryAcquire(1000)).isTrue();
+  }
+
+  @Test
+  void shouldReopenForLongerWhenTrialFails() {
+    CircuitBreaker breaker = new CircuitBreaker(1, 1, 1000, 3000);
+    breaker.onFailure(0);
+
+    assertThat(breaker.tryAcquire(1000)).isTrue();
+    assertThat(breaker.onFailure(1000)).isTrue();
+    assertThat(breaker.openUntilMs()).isEqualTo(3000);
+
+    assertThat(breaker.tryAcquire(3000)).isTrue();
+    breaker.onFailure(3000);
+    assertThat(breaker.openUntilMs()).as("capped at max open duration").isEqualTo(6000);
+  }
+
+  @Test
+  void shouldReleaseCancelledTrialAndAdoptForeignOpen() {
+    CircuitBreaker breaker = new CircuitBreaker(1, 1, 1000, 1000);
+    breaker.onFailure(0);
+    assertThat(breaker.tryAcquire(1000)).isTrue();
+    breaker.cancel();
+    assertThat(breaker.tryAcquire(1000)).as("cancelled trial frees its slot").isTrue();
+
+    CircuitBreaker closed = new CircuitBreaker(5, 1, 1000, 1000);
+    closed.openUntil(5000);
+    assertThat(closed.tryAcquire(4999)).isFalse();
+    assertThat(closed.tryAcquire(5000)).isTrue();
+  }
+}
@@ -0,0 +1,53 @@
+package com.webhook.platform.domain.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RotatingBloomFilterTest {
+
+  @Test
+  void shouldNeverMissAnInsertedPairAndStayNearTheFalsePositiveRate() {
+    RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01, 3);
+    UUID endpoint = UUID.randomUUID();
+    List<UUID> events = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      UUID event = UUID.randomUUID();
+      events.add(event);
+      filter.put(endpoint, event);
+    }
+
+    assertThat(events).allMatch(event -> filter.mightContain(endpoint, event));
+    assertThat(filter.mightContain(UUID.randomUUID(), events.get(0)))
+        .as("keyed on the pair, not the event alone")
+        .isFalse();
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain(endpoint, UUID.randomUUID())) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(2_000);
+  }
+
+  @Test
+  void shouldForgetPairsOnceTheirGenerationRotatesOut() {
+    RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.01, 2);
+    UUID endpoint = UUID.randomUUID();
+    UUID recent = UUID.randomUUID();
+    UUID old = UUID.randomUUID();
+    filter.put(endpoint, recent);
+    filter.put(endpoint, old, 1);
+
+    filter.rotate();
+    assertThat(filter.mightContain(endpoint, recent)).as("still in the older generation").isTrue();
+    assertThat(filter.mightContain(endpoint, old)).isFalse();
+
+    filter.rotate();
+    assertThat(filter.mightContain(endpoint, recent)).isFalse();
+  }
+}
@@ -0,0 +1,79 @@
+package com.webhook.platform.domain.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+
+class HmacUtilsTest {
+
+  private static final byte[] PAYLOAD =
+      "{\"orderId\":\"ord_123\"}".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  void shouldMatchAFreshMacForEveryEntryPoint() throws Exception {
+    String expected =
+        reference("1700000000000." + new String(PAYLOAD, StandardCharsets.UTF_8), "s1");
+
+    assertThat(HmacUtils.signTimestamped(1700000000000L, PAYLOAD, "s1")).isEqualTo(expected);
+    assertThat(HmacUtils.sign("1700000000000.", PAYLOAD, "s1")).isEqualTo(expected);
+    assertThat(HmacUtils.sign("1700000000000.{\"orderId\":\"ord_123\"}", "s1")).isEqualTo(expected);
+    assertThat(HmacUtils.signTimestamped(0, PAYLOAD, "s1"))
+        .isEqualTo(reference("0." + new String(PAYLOAD, StandardCharsets.UTF_8), "s1"));
+  }
+
+  @Test
+  void shouldKeepSecretsApartAcrossThreadsAndEvictions() throws Exception {
+    // More secrets than a thread caches, signed repeatedly from several threads.
+    List<String> secrets = IntStream.range(0, 100).mapToObj(i -> "secret-" + i).toList();
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<CompletableFuture<Boolean>> results =
+          IntStream.range(0, 2_000)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.supplyAsync(
+                          () -> {
+                            String secret = secrets.get(i % secrets.size());
+                            return HmacUtils.signTimestamped(i, PAYLOAD, secret)
+                                .equals(referenceUnchecked(i + ".", secret));
+                          },
+                          pool))
+              .toList();
+      assertThat(results).allMatch(CompletableFuture::join);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void shouldNotCarryBytesLeftByAnAbandonedSignature() throws Exception {
+    String expected = HmacUtils.signTimestamped(42, PAYLOAD, "s2");
+    // A signature that failed after its first update() leaves the cached Mac mid-computation.
+    HmacUtils.mac("s2").update("leftover".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(HmacUtils.signTimestamped(42, PAYLOAD, "s2")).isEqualTo(expected);
+  }
+
+  private static String referenceUnchecked(String prefix, String secret) {
+    try {
+      return reference(prefix + new String(PAYLOAD, StandardCharsets.UTF_8), secret);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String reference(String data, String secret) throws Exception {
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    return Base64.getEncoder().encodeToString(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,131 @@
+package com.webhook.platform.infra.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.webhook.platform.domain.entity.OutboxEventEntity;
+import com.webhook.platform.domain.model.EventStatus;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+class EventEnvelopeMessageConverterTest {
+
+  private final Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter();
+  private final EventEnvelopeMessageConverter converter =
+      new EventEnvelopeMessageConverter(json, true);
+
+  @Test
+  void shouldRoundTripEventThroughEnvelope() {
+    OutboxEventEntity event = event().payloadJson("{\"order\":\"ü-42\"}").build();
+
+    Message message = converter.toMessage(event, new MessageProperties());
+    OutboxEventEntity decoded = (OutboxEventEntity) converter.fromMessage(message);
+
+    assertThat(message.getMessageProperties().getContentType())
+        .isEqualTo(EventEnvelopeMessageConverter.CONTENT_TYPE);
+    assertThat(decoded.getId()).isEqualTo(event.getId());
+    assertThat(decoded.getTenantId()).isEqualTo(event.getTenantId());
+    assertThat(decoded.getEventType()).isEqualTo(event.getEventType());
+    assertThat(decoded.getCreatedAt()).isEqualTo(event.getCreatedAt());
+    assertThat(decoded.payloadBytes()).isEqualTo(event.payloadBytes());
+  }
+
+  @Test
+  void shouldKeepCompressedPayloadCompressed() {
+    byte[] gzip = {0x1f, (byte) 0x8b, 1, 2, 3};
+    OutboxEventEntity event = event().payloadGzip(gzip).build();
+
+    OutboxEventEntity decoded =
+        (OutboxEventEntity)
+            converter.fromMessage(converter.toMessage(event, new MessageProperties()));
+
+    assertThat(decoded.getPayloadGzip()).isEqualTo(gzip);
+    assertThat(decoded.getPayloadJson()).isNull();
+  }
+
+  @Test
+  void shouldStillReadJsonEvents() {
+    OutboxEventEntity event = event().payloadJson("{}").build();
+    Message legacy = json.toMessage(event, new MessageProperties());
+
+    OutboxEventEntity decoded = (OutboxEventEntity) converter.fromMessage(legacy);
+
+    assertThat(decoded.getId()).isEqualTo(event.getId());
+    assertThat(decoded.getPayloadJson()).isEqualTo("{}");
+  }
+
+  @Test
+  void shouldCarryThePublishTimeInEitherFormat() {
+    OutboxEventEntity event = event().payloadJson("{}").build();
+    LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+    OutboxEventEntity envelope =
+        (OutboxEventEntity)
+            converter.fromMessage(converter.toMessage(event, new MessageProperties()));
+    OutboxEventEntity jsonEvent =
+        (OutboxEventEntity)
+            converter.fromMessage(
+                new EventEnvelopeMessageConverter(json, false)
+                    .toMessage(event, new MessageProperties()));
+
+    assertThat(envelope.getPublishedAt()).isAfter(before);
+    assertThat(jsonEvent.getPublishedAt()).isAfter(before);
+  }
+
+  @Test
+  void shouldRejectTruncatedEnvelope() {
+    byte[] body =
+        converter.toMessage(event().payloadJson("{}").build(), new MessageProperties()).getBody();
+
+    assertThatThrownBy(() -> decode(Arrays.copyOf(body, body.length - 1)))
+        .isInstanceOf(MessageConversionException.class);
+    assertThatThrownBy(() -> decode(Arrays.copyOf(body, 20)))
+        .isInstanceOf(MessageConversionException.class);
+  }
+
+  @Test
+  void shouldRejectLengthsBeyondTheMessage() {
+    OutboxEventEntity event = event().payloadJson("{}").build();
+    int eventTypeLength = event.getEventType().getBytes(StandardCharsets.UTF_8).length;
+    // version, flags, two UUIDs, seconds, nanos
+    int eventTypeAt = 1 + 1 + 16 + 16 + 8 + 4;
+    int payloadAt = eventTypeAt + 2 + eventTypeLength;
+
+    byte[] longType = converter.toMessage(event, new MessageProperties()).getBody();
+    ByteBuffer.wrap(longType).putShort(eventTypeAt, (short) 0xFFFF);
+    byte[] hugePayload = converter.toMessage(event, new MessageProperties()).getBody();
+    ByteBuffer.wrap(hugePayload).putInt(payloadAt, Integer.MAX_VALUE);
+    byte[] negativePayload = converter.toMessage(event, new MessageProperties()).getBody();
+    ByteBuffer.wrap(negativePayload).putInt(payloadAt, -1);
+
+    assertThatThrownBy(() -> decode(longType)).isInstanceOf(MessageConversionException.class);
+    assertThatThrownBy(() -> decode(hugePayload))
+        .isInstanceOf(MessageConversionException.class)
+        .hasMessageContaining("length " + Integer.MAX_VALUE);
+    assertThatThrownBy(() -> decode(negativePayload))
+        .isInstanceOf(MessageConversionException.class);
+  }
+
+  private Object decode(byte[] body) {
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(EventEnvelopeMessageConverter.CONTENT_TYPE);
+    return converter.fromMessage(new Message(body, properties));
+  }
+
+  private static OutboxEventEntity.OutboxEventEntityBuilder event() {
+    return OutboxEventEntity.builder()
+        .id(UUID.randomUUID())
+        .tenantId(UUID.randomUUID())
+        .eventType("order.created")
+        .status(EventStatus.PENDING)
+        .createdAt(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_789));
+  }
+}